@@ -0,0 +1,59 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of applicant lists as the controllers return them. The mapper
+ * comes from the same builder Spring Boot uses (JavaTimeModule, ISO dates), and list
+ * sizes cover the default and maximum page sizes plus a by-project response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicantJsonBenchmark {
+
+	@Param({"50", "200", "2000"})
+	public int size;
+
+	private ObjectMapper objectMapper;
+	private ObjectWriter listWriter;
+	private List<ApplicantDTO> applicants;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ApplicantDTO.class));
+		applicants = BenchmarkFixtures.applicantDTOs(size);
+	}
+
+	@Benchmark
+	public byte[] serializeList() throws Exception {
+		return listWriter.writeValueAsBytes(applicants);
+	}
+
+	// What a controller pays when it lets the mapper look the type up per call
+	@Benchmark
+	public byte[] serializeListUntyped() throws Exception {
+		return objectMapper.writeValueAsBytes(applicants);
+	}
+}
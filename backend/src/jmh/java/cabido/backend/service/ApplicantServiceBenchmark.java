@@ -0,0 +1,55 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.entity.Applicant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping done for every applicant a request returns. Each invocation maps
+ * one row; the fixture cycles through 256 different applicants so the JIT cannot fold
+ * the work into a constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicantServiceBenchmark {
+
+	private static final int FIXTURES = 256;
+
+	private ApplicantService service;
+	private List<Applicant> entities;
+	private List<ApplicantDTO> dtos;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		service = new ApplicantService();
+		entities = BenchmarkFixtures.applicants(FIXTURES);
+		dtos = BenchmarkFixtures.applicantDTOs(FIXTURES);
+	}
+
+	@Benchmark
+	public ApplicantDTO convertToDTO() {
+		return service.convertToDTO(entities.get(next++ & (FIXTURES - 1)));
+	}
+
+	@Benchmark
+	public Applicant convertToEntity() {
+		return service.convertToEntity(dtos.get(next++ & (FIXTURES - 1)));
+	}
+}
@@ -0,0 +1,133 @@
+package cabido.backend.service;
+
+import cabido.backend.constants.ProjectConstants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.entity.Applicant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Deterministic applicants shaped like production rows: mixed-script names, a few
+ * characters that need HTML escaping, and experience text of a few hundred characters.
+ * Also a small resume corpus covering the formats uploads actually arrive in.
+ */
+final class BenchmarkFixtures {
+
+	private static final String[] FIRST_NAMES = {"María José", "Lloyd Scott", "Nguyễn", "O'Brien", "Zoë", "Ana-Lucía", "Jean <JJ>", "Søren"};
+	private static final String[] LAST_NAMES = {"Dela Cruz", "Cabido", "Trần", "Smith & Sons", "Müller", "Reyes", "Ó Súilleabháin", "Lim"};
+	private static final String[] DEGREES = {"BS Computer Science", "BS Information Technology", "BS Electronics Engineering", "AB Linguistics"};
+	private static final String EXPERIENCE = "Three years annotating multilingual speech and text corpora, including QA of "
+			+ "bounding-box labels for autonomous-driving footage. Led a team of 12 labellers, wrote guidelines, "
+			+ "and cut rework by 30% with spot-check sampling. Comfortable with Python, SQL and \"prompt\" evaluation; "
+			+ "familiar with genealogy record transcription (Latin & Spanish church registers) and customer-support triage.";
+
+	private BenchmarkFixtures() {
+	}
+
+	static List<Applicant> applicants(int count) {
+		Random random = new Random(42);
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+		List<Applicant> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Applicant a = new Applicant();
+			a.setId(10_000L + i);
+			a.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+			a.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+			a.setAge(18 + random.nextInt(40));
+			a.setDegree(DEGREES[random.nextInt(DEGREES.length)]);
+			a.setRelevantExperience(EXPERIENCE.substring(random.nextInt(80)));
+			a.setEmail("applicant" + i + "@example.com");
+			a.setProjectAppliedFor(ProjectConstants.AVAILABLE_PROJECTS.get(random.nextInt(ProjectConstants.AVAILABLE_PROJECTS.size())));
+			a.setStatus(i % 3 == 0 ? "approved" : "pending");
+			a.setCreatedAt(base.plusMinutes(37L * i));
+			a.setUpdatedAt(a.getCreatedAt());
+			result.add(a);
+		}
+		return result;
+	}
+
+	static List<ApplicantDTO> applicantDTOs(int count) {
+		ApplicantService service = new ApplicantService();
+		return applicants(count).stream().map(service::convertToDTO).toList();
+	}
+
+	/**
+	 * A resume of the given kind: "text-pdf" (uncompressed content streams, as older
+	 * writers and many templates produce), "doc" (Word 97-2003: UTF-16 text in
+	 * zero-padded sectors), "docx" (already deflated) or "scanned-pdf" (image data,
+	 * effectively random).
+	 */
+	static byte[] resume(String kind) {
+		try {
+			return switch (kind) {
+				case "text-pdf" -> textPdf(300 * 1024);
+				case "doc" -> doc(250 * 1024);
+				case "docx" -> docx(40);
+				case "scanned-pdf" -> scannedPdf(1024 * 1024);
+				default -> throw new IllegalArgumentException("Unknown resume kind: " + kind);
+			};
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] textPdf(int size) {
+		StringBuilder pdf = new StringBuilder(size + 256).append("%PDF-1.4\n");
+		int line = 0;
+		while (pdf.length() < size) {
+			pdf.append("BT /F1 11 Tf 72 ").append(720 - (line % 60) * 12).append(" Td (")
+					.append(EXPERIENCE, (line * 7) % 120, 120 + (line * 7) % 120).append(") Tj ET\n");
+			line++;
+		}
+		return pdf.substring(0, size).getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	private static byte[] doc(int size) {
+		byte[] doc = new byte[size];
+		byte[] magic = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+		System.arraycopy(magic, 0, doc, 0, magic.length);
+		byte[] text = EXPERIENCE.getBytes(StandardCharsets.UTF_16LE);
+		// Text fills about half of each 512-byte sector; the rest stays zero
+		for (int sector = 1; (sector + 1) * 512 <= size; sector++) {
+			System.arraycopy(text, (sector * 64) % (text.length - 256), doc, sector * 512, 256);
+		}
+		return doc;
+	}
+
+	private static byte[] docx(int paragraphs) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+			zip.write("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\"/>".getBytes(StandardCharsets.UTF_8));
+			zip.putNextEntry(new ZipEntry("word/document.xml"));
+			StringBuilder xml = new StringBuilder("<w:document><w:body>");
+			for (int i = 0; i < paragraphs; i++) {
+				xml.append("<w:p><w:r><w:t>").append(EXPERIENCE.substring(i % 80)).append("</w:t></w:r></w:p>");
+			}
+			zip.write(xml.append("</w:body></w:document>").toString().getBytes(StandardCharsets.UTF_8));
+			// Embedded photo: stored as it came, like the JPEGs in real resumes
+			zip.putNextEntry(new ZipEntry("word/media/image1.jpeg"));
+			byte[] photo = new byte[48 * 1024];
+			new Random(11).nextBytes(photo);
+			zip.write(photo);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] scannedPdf(int size) {
+		byte[] pdf = new byte[size];
+		new Random(5).nextBytes(pdf);
+		byte[] header = "%PDF-1.5\n".getBytes(StandardCharsets.US_ASCII);
+		System.arraycopy(header, 0, pdf, 0, header.length);
+		return pdf;
+	}
+}
@@ -0,0 +1,78 @@
+package cabido.backend.service;
+
+import cabido.backend.entity.Applicant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message string work in {@link EmailService}: escaping the name, wrapping the body
+ * in the HTML layout and deriving the plain-text alternative (four regex passes).
+ * {@link #renderApprovalEmail} is the whole chain as it runs for one HTML send.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailServiceBenchmark {
+
+	private static final int FIXTURES = 64;
+
+	private EmailService emailService;
+	private String[] names;
+	private String[] bodies;
+	private String[] html;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		emailService = new EmailService();
+		List<Applicant> applicants = BenchmarkFixtures.applicants(FIXTURES);
+		names = new String[FIXTURES];
+		bodies = new String[FIXTURES];
+		html = new String[FIXTURES];
+		for (int i = 0; i < FIXTURES; i++) {
+			Applicant a = applicants.get(i);
+			names[i] = a.getFirstName() + " " + a.getLastName();
+			bodies[i] = "<p>Dear " + emailService.escape(names[i]) + ",</p><p>" + emailService.escape(a.getRelevantExperience()) + "</p>";
+			html[i] = emailService.buildApprovalHtml(names[i]);
+		}
+	}
+
+	private int index() {
+		return next++ & (FIXTURES - 1);
+	}
+
+	@Benchmark
+	public String escape() {
+		return emailService.escape(names[index()]);
+	}
+
+	@Benchmark
+	public String emailBaseTemplate() {
+		return emailService.emailBaseTemplate("Application Approved", bodies[index()]);
+	}
+
+	@Benchmark
+	public String htmlToPlainText() {
+		return emailService.htmlToPlainText(html[index()]);
+	}
+
+	@Benchmark
+	public String renderApprovalEmail() {
+		String htmlBody = emailService.buildApprovalHtml(names[index()]);
+		return emailService.htmlToPlainText(htmlBody);
+	}
+}
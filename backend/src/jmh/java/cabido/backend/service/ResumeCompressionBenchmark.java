@@ -0,0 +1,115 @@
+package cabido.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * CPU against disk for compressed resume storage ({@link LocalResumeStorage} with
+ * {@code app.resume.storage.compression.enabled}), on the corpus from
+ * {@link BenchmarkFixtures#resume}. {@link #store} is an upload's storage step (hash,
+ * gzip attempt, write, rename); {@link #load} reads a stored resume back in full,
+ * inflating it when it was kept compressed. The bytes each document takes on disk
+ * are printed at setup, to set the extra microseconds against the space saved.
+ * Writes go to the page cache, as uploads do; nothing is fsynced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResumeCompressionBenchmark {
+
+	@Param({"text-pdf", "doc", "docx", "scanned-pdf"})
+	public String document;
+
+	@Param({"false", "true"})
+	public boolean compress;
+
+	private Path root;
+	private Path scratchRoot;
+	private LocalResumeStorage storage;
+	private LocalResumeStorage scratch;
+	private byte[] content;
+	private byte[] unique;
+	private String key;
+	private final byte[] buffer = new byte[64 * 1024];
+	private long sequence;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		root = Files.createTempDirectory("resume-bench-");
+		storage = new LocalResumeStorage(root, compress, 10);
+		content = BenchmarkFixtures.resume(document);
+		unique = content.clone();
+
+		ResumeStorage.StoredResume stored = storage.store(new ByteArrayInputStream(content));
+		key = stored.key();
+		System.out.printf("%n%s, compress=%s: %d bytes -> %d on disk (%.1f%% saved)%n", document, compress,
+				stored.size(), stored.storedSize(), 100.0 * (stored.size() - stored.storedSize()) / stored.size());
+	}
+
+	@Setup(Level.Iteration)
+	public void newScratch() throws IOException {
+		scratchRoot = Files.createTempDirectory("resume-bench-scratch-");
+		scratch = new LocalResumeStorage(scratchRoot, compress, 10);
+	}
+
+	@Benchmark
+	public ResumeStorage.StoredResume store() throws IOException {
+		// A fresh trailer each time, so deduplication never skips the write
+		ByteBuffer.wrap(unique, unique.length - Long.BYTES, Long.BYTES).putLong(++sequence);
+		return scratch.store(new ByteArrayInputStream(unique));
+	}
+
+	@Benchmark
+	public long load() throws IOException {
+		long total = 0;
+		try (InputStream in = storage.load(key).getInputStream()) {
+			int n;
+			while ((n = in.read(buffer)) != -1) {
+				total += n;
+			}
+		}
+		return total;
+	}
+
+	@TearDown(Level.Iteration)
+	public void dropScratch() throws IOException {
+		delete(scratchRoot);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		delete(root);
+	}
+
+	private static void delete(Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package cabido.backend.config;
+
+import cabido.backend.service.AdminTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <admin token>}. The
+ * token is verified from its signature alone; requests without a valid token pass
+ * through unauthenticated and are rejected later by the authorization rules.
+ *
+ * <p>The applicant event stream also takes a stream token in its {@code token} query
+ * parameter, since EventSource cannot set headers. That parameter is read on no other
+ * path, and only stream tokens are accepted there.
+ *
+ * <p>Registered only inside the security chain (see SecurityConfig), not as a bean,
+ * so the servlet container does not run it a second time.
+ */
+public class AdminTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+    private static final Set<String> EVENT_STREAM_PATHS = Set.of("/api/applicants/events", "/applicants/events");
+    private static final List<SimpleGrantedAuthority> ADMIN = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private final AdminTokenService tokenService;
+
+    public AdminTokenAuthenticationFilter(AdminTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        Optional<AdminTokenService.AdminPrincipal> principal = Optional.empty();
+        if (header != null && header.startsWith(BEARER)) {
+            principal = tokenService.verify(header.substring(BEARER.length()).trim());
+        } else if (EVENT_STREAM_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()))) {
+            principal = tokenService.verifyStreamToken(request.getParameter("token"));
+        }
+        principal.ifPresent(p -> SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(p, null, ADMIN)));
+        chain.doFilter(request, response);
+    }
+}
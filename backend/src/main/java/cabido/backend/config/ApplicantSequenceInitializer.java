@@ -0,0 +1,52 @@
+package cabido.backend.config;
+
+import cabido.backend.entity.Applicant;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves applicants_seq past the ids already in the table.
+ *
+ * <p>Applicant ids used to come from AUTO_INCREMENT; the pooled sequence that replaced
+ * it starts at 1, so on an existing database its first blocks would collide with old
+ * rows. This runs once the schema exists and before Hibernate draws its first block,
+ * and only ever moves the sequence forward.
+ */
+@Component
+public class ApplicantSequenceInitializer {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Not used directly: depending on it guarantees ddl-auto has created the sequence
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void alignSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM applicants", Long.class);
+        // The pooled optimizer treats a sequence value as the top of a block of ID_ALLOCATION_SIZE ids
+        long floor = maxId + Applicant.ID_ALLOCATION_SIZE + 1;
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+
+        if ("MySQL".equalsIgnoreCase(database) || "MariaDB".equalsIgnoreCase(database)) {
+            // Hibernate emulates the sequence with a single-row table on MySQL
+            int moved = jdbcTemplate.update("UPDATE applicants_seq SET next_val = ? WHERE next_val < ?", floor, floor);
+            if (moved > 0) {
+                System.out.println("applicants_seq moved to " + floor + " (max applicant id " + maxId + ")");
+            }
+        } else if ("H2".equalsIgnoreCase(database)) {
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT base_value FROM information_schema.sequences WHERE sequence_name = 'applicants_seq'", Long.class);
+            if (next != null && next < floor) {
+                jdbcTemplate.execute("ALTER SEQUENCE applicants_seq RESTART WITH " + floor);
+            }
+        } else {
+            System.err.println("Not aligning applicants_seq on unsupported database " + database);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package cabido.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for background work. With {@code spring.threads.virtual.enabled=true}
+ * Spring Boot already moves Tomcat, {@code @Async} and {@code @Scheduled} onto virtual
+ * threads; the VIRTUAL variants below do the same for the outbox and SSE writers.
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * Bounded pool that performs the actual SMTP sends for the email outbox. The
+     * dispatcher never hands it more work than it has free slots, so the queue
+     * stays small and a slow mail server cannot pile up memory.
+     */
+    @Bean(name = "emailOutboxExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor emailOutboxExecutor(
+            @Value("${app.email.outbox.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("email-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Virtual-thread variant: one virtual thread per send, still capped at the worker
+     * count. The cap matters beyond SMTP politeness: JavaMail's SMTPTransport writes
+     * inside synchronized methods, which pins the carrier thread on JDK 21, so an
+     * unbounded number of concurrent sends could occupy every carrier.
+     */
+    @Bean(name = "emailOutboxExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualEmailOutboxExecutor(
+            @Value("${app.email.outbox.workers:4}") int workers) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("email-outbox-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(workers);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    /**
+     * Writes queued change-feed events to SSE subscribers. Each subscriber is drained
+     * by at most one task at a time, and the pool can grow to one thread per allowed
+     * subscriber instead of queueing, so a client that stops reading blocks only its
+     * own writer. Threads beyond {@code writers} are reaped after a minute idle; the
+     * broadcaster evicts a subscriber whose write overruns its deadline.
+     */
+    @Bean(name = "sseExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor sseExecutor(
+            @Value("${app.sse.writers:4}") int writers,
+            @Value("${app.sse.max-subscribers:200}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(writers);
+        executor.setMaxPoolSize(Math.max(writers, maxSubscribers));
+        executor.setQueueCapacity(0);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+
+    // A virtual thread per active drain, so one stalled client costs almost nothing
+    @Bean(name = "sseExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualSseExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
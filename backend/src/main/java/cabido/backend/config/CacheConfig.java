@@ -0,0 +1,13 @@
+package cabido.backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches are Caffeine-backed and configured through spring.cache.* in
+ * application.properties; set spring.cache.type=none to bypass them entirely.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,36 @@
+package cabido.backend.config;
+
+import cabido.backend.service.SmtpTransportPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@Configuration
+public class MailConfig {
+
+    /**
+     * Reuses the session, host and credentials Spring Boot already configured for
+     * JavaMailSender (spring.mail.*), so the pool and the plain sender always agree.
+     */
+    @Bean
+    public SmtpTransportPool smtpTransportPool(
+            JavaMailSenderImpl mailSender,
+            @Value("${app.email.pool.max-size:4}") int maxSize,
+            @Value("${app.email.pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+            @Value("${app.email.pool.max-idle-ms:60000}") long maxIdleMillis,
+            @Value("${app.email.pool.validate-after-idle-ms:5000}") long validateAfterIdleMillis,
+            @Value("${app.email.pool.borrow-timeout-ms:30000}") long borrowTimeoutMillis) {
+        return new SmtpTransportPool(
+                mailSender.getSession(),
+                mailSender.getHost(),
+                mailSender.getPort(),
+                mailSender.getUsername(),
+                mailSender.getPassword(),
+                maxSize,
+                maxMessagesPerConnection,
+                maxIdleMillis,
+                validateAfterIdleMillis,
+                borrowTimeoutMillis);
+    }
+}
@@ -0,0 +1,87 @@
+package cabido.backend.config;
+
+import cabido.backend.service.RateLimitService;
+import cabido.backend.service.TokenBucketLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the per-IP budgets from {@link RateLimitService} at the very front of the
+ * security chain, so a throttled request is answered with 429 before its body is
+ * parsed, a password is hashed or the database is touched.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern LOGIN = Pattern.compile("(/api)?/admin/login/?");
+    private static final Pattern SUBMISSION = Pattern.compile("(/api)?/applicants/?");
+    private static final Pattern RESUME_UPLOAD = Pattern.compile("(/api)?/applicants/[^/]+/resume/?");
+    // Starting a chunked upload counts as one upload; its chunks are not counted again
+    private static final Pattern RESUME_UPLOAD_SESSION = Pattern.compile("(/api)?/applicants/[^/]+/resume/uploads/?");
+
+    private final RateLimitService rateLimitService;
+    private final boolean trustForwardedFor;
+
+    public RateLimitFilter(RateLimitService rateLimitService, boolean trustForwardedFor) {
+        this.rateLimitService = rateLimitService;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitService.Endpoint endpoint = match(request);
+        if (endpoint != null) {
+            TokenBucketLimiter.Decision decision = rateLimitService.checkClient(endpoint, clientIp(request));
+            if (!decision.allowed()) {
+                reject(response, decision.retryAfterSeconds());
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    public static void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Too many requests; retry after " + retryAfterSeconds + " seconds");
+    }
+
+    private static RateLimitService.Endpoint match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if ("POST".equals(method) && LOGIN.matcher(path).matches()) {
+            return RateLimitService.Endpoint.LOGIN;
+        }
+        if ("POST".equals(method) && SUBMISSION.matcher(path).matches()) {
+            return RateLimitService.Endpoint.SUBMISSION;
+        }
+        if ("PUT".equals(method) && RESUME_UPLOAD.matcher(path).matches()) {
+            return RateLimitService.Endpoint.RESUME_UPLOAD;
+        }
+        if ("POST".equals(method) && RESUME_UPLOAD_SESSION.matcher(path).matches()) {
+            return RateLimitService.Endpoint.RESUME_UPLOAD;
+        }
+        return null;
+    }
+
+    // Behind a proxy the last X-Forwarded-For entry is the address that proxy saw
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                String[] hops = forwarded.split(",");
+                return hops[hops.length - 1].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,28 @@
+package cabido.backend.config;
+
+import cabido.backend.service.LocalResumeStorage;
+import cabido.backend.service.ResumeStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+@Configuration
+public class ResumeStorageConfig {
+
+    /**
+     * Local content-addressed storage. Point app.resume.storage.dir at a shared volume
+     * when running more than one instance; another backend only needs to implement
+     * ResumeStorage and replace this bean. With compression on, new blobs that gzip
+     * to at least min-savings-percent smaller are kept compressed.
+     */
+    @Bean
+    public ResumeStorage resumeStorage(
+            @Value("${app.resume.storage.dir:uploads/resumes}") String directory,
+            @Value("${app.resume.storage.compression.enabled:false}") boolean compress,
+            @Value("${app.resume.storage.compression.min-savings-percent:10}") int minSavingsPercent) throws IOException {
+        return new LocalResumeStorage(Paths.get(directory), compress, minSavingsPercent);
+    }
+}
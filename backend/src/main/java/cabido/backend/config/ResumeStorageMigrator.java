@@ -0,0 +1,76 @@
+package cabido.backend.config;
+
+import cabido.backend.service.ResumeStorage;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves resumes saved before ResumeStorage existed into it.
+ *
+ * <p>Those rows point at a flat {@code uploads/resumes/{id}_{name}} file through the
+ * old resume_path column. Each such file is copied into the storage, the row gets
+ * its key, and resume_path is cleared so the row is not visited again. The old files
+ * are left in place; remove them once every instance runs this version. Rows whose
+ * file is gone are reported and kept as they are.
+ */
+@Component
+public class ResumeStorageMigrator {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    // Not used directly: depending on it guarantees ddl-auto has added resume_key
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void migrateLegacyPaths() {
+        boolean legacyColumn = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) c -> {
+            try (ResultSet columns = c.getMetaData().getColumns(c.getCatalog(), null, "applicants", "resume_path")) {
+                return columns.next();
+            }
+        }));
+        if (!legacyColumn) {
+            return;
+        }
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, resume_path FROM applicants WHERE resume_path IS NOT NULL AND resume_key IS NULL");
+        int moved = 0;
+        for (Map<String, Object> row : rows) {
+            Object id = row.get("id");
+            Path file = Paths.get(String.valueOf(row.get("resume_path")));
+            if (!Files.isRegularFile(file)) {
+                System.err.println("Resume for applicant " + id + " not found at " + file + "; left unmigrated");
+                continue;
+            }
+            try (InputStream content = Files.newInputStream(file)) {
+                ResumeStorage.StoredResume stored = resumeStorage.store(content);
+                jdbcTemplate.update("UPDATE applicants SET resume_key = ?, resume_size = ?, resume_stored_size = ?, resume_sha256 = ?, resume_uploaded_at = ?, resume_path = NULL WHERE id = ?",
+                        stored.key(), stored.size(), stored.storedSize(), stored.sha256(), new Timestamp(Files.getLastModifiedTime(file).toMillis()), id);
+                moved++;
+            } catch (Exception e) {
+                System.err.println("Failed to migrate resume for applicant " + id + ": " + e.getMessage());
+            }
+        }
+        if (moved > 0) {
+            System.out.println("Moved " + moved + " resume(s) into content-addressed storage");
+        }
+    }
+}
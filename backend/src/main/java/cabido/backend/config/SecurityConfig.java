@@ -1,13 +1,21 @@
 package cabido.backend.config;
 
+import cabido.backend.service.AdminTokenService;
+import cabido.backend.service.RateLimitService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -24,16 +32,33 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AdminTokenService adminTokenService,
+                                           RateLimitService rateLimitService,
+                                           @Value("${app.ratelimit.trust-forwarded-for:false}") boolean trustForwardedFor) throws Exception {
+        AdminTokenAuthenticationFilter tokenFilter = new AdminTokenAuthenticationFilter(adminTokenService);
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
+            // Admin tokens are self-contained; no HTTP session is created or consulted
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(tokenFilter, UsernamePasswordAuthenticationFilter.class)
+            // Throttle before authentication or any controller work
+            .addFilterBefore(new RateLimitFilter(rateLimitService, trustForwardedFor), AdminTokenAuthenticationFilter.class)
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(authz -> authz
+                // Streamed responses (admin export) finish on an async dispatch of a request already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // Full applicant records and counts: the dashboard's live feed is for admins only
+                .requestMatchers(HttpMethod.GET, "/api/applicants/events", "/api/applicants/stats",
+                        "/applicants/events", "/applicants/stats").hasRole("ADMIN")
+                // One request can decide thousands of applications and queue an email for each
+                .requestMatchers(HttpMethod.POST, "/api/applicants/status:batch", "/applicants/status:batch").hasRole("ADMIN")
                 .requestMatchers("/api/applicants/**").permitAll()
                 .requestMatchers("/api/projects/**").permitAll()
                 .requestMatchers("/api/admin/login").permitAll()
                 .requestMatchers("/api/admin/validate").permitAll()
                 .requestMatchers("/api/admin/mail/test").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
                 // Allow all CORS preflight requests
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 // Backward-compat: temporarily allow missing /api prefix
@@ -1,14 +1,42 @@
 package cabido.backend.controller;
 
 import cabido.backend.dto.AdminLoginDTO;
+import cabido.backend.dto.ApplicantFilterDTO;
 import cabido.backend.dto.AuthResponseDTO;
+import cabido.backend.dto.ResumeStorageStatsDTO;
+import cabido.backend.entity.OutboxEmail;
 import cabido.backend.service.AdminService;
+import cabido.backend.service.ApplicantExportService;
+import cabido.backend.service.ApplicantFileFormat;
+import cabido.backend.service.ApplicantImportService;
+import cabido.backend.service.ApplicantService;
+import cabido.backend.service.AdminTokenService;
+import cabido.backend.service.EmailOutboxService;
 import cabido.backend.service.EmailService;
+import cabido.backend.service.RateLimitService;
+import cabido.backend.service.TokenBucketLimiter;
 import jakarta.annotation.security.PermitAll;
 import jakarta.validation.Valid;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @RestController
 @RequestMapping({"/api/admin", "/admin"})
@@ -20,12 +48,40 @@ public class AdminController {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AdminTokenService adminTokenService;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private ApplicantImportService applicantImportService;
+
+    @Autowired
+    private ApplicantService applicantService;
+
+    @Autowired
+    private ApplicantExportService exportService;
+
     /**
      * Admin login endpoint
      */
     @PostMapping("/login")
     @PermitAll
     public ResponseEntity<AuthResponseDTO> login(@Valid @RequestBody AdminLoginDTO loginDTO) {
+        // Per-account budget (the per-IP one ran in RateLimitFilter); checked before any lookup or BCrypt
+        TokenBucketLimiter.Decision decision = rateLimitService.checkLoginAccount(loginDTO.getEmail());
+        if (!decision.allowed()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()))
+                    .body(new AuthResponseDTO("Too many login attempts; try again later", false, null, null));
+        }
         AuthResponseDTO response = adminService.login(loginDTO);
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
@@ -36,18 +92,49 @@ public class AdminController {
     }
 
     /**
-     * Simple token validation (example only)
+     * Checks a token's signature, expiry and revocation; never touches the database
      */
     @GetMapping("/validate")
     @PermitAll
     public ResponseEntity<String> validateToken(
             @RequestHeader(value = "Authorization", required = false) String token) {
-        if (token != null && token.equals("Bearer dummy-token")) {
+        if (token != null && token.startsWith("Bearer ")
+                && adminTokenService.verify(token.substring("Bearer ".length()).trim()).isPresent()) {
             return ResponseEntity.ok("Token is valid");
         }
         return ResponseEntity.status(401).body("Invalid token");
     }
 
+    /**
+     * Revokes the calling token until it would have expired anyway
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@AuthenticationPrincipal AdminTokenService.AdminPrincipal principal) {
+        adminTokenService.revoke(principal);
+        return ResponseEntity.ok("Logged out");
+    }
+
+    /**
+     * Short-lived token for GET /api/applicants/events?token=..., as EventSource
+     * cannot send the Authorization header
+     */
+    @PostMapping("/events/token")
+    public ResponseEntity<Map<String, Object>> issueEventStreamToken(
+            @AuthenticationPrincipal AdminTokenService.AdminPrincipal principal) {
+        return ResponseEntity.ok(Map.of(
+                "token", adminTokenService.issueStreamToken(principal.adminId()),
+                "expiresInSeconds", adminTokenService.getStreamTokenTtlSeconds()));
+    }
+
+    /**
+     * Switches token signing to a freshly generated key. Tokens signed with earlier
+     * keys stay valid until they expire.
+     */
+    @PostMapping("/auth/rotate-key")
+    public ResponseEntity<Map<String, String>> rotateSigningKey() {
+        return ResponseEntity.ok(Map.of("activeKeyId", adminTokenService.rotateKey()));
+    }
+
     /**
      * Lightweight test endpoint to verify SMTP configuration
      */
@@ -71,6 +158,116 @@ public class AdminController {
         }
     }
 
+    /**
+     * Inspect the email outbox, e.g. ?status=DEAD for messages that exhausted their retries
+     */
+    @GetMapping("/mail/outbox")
+    public ResponseEntity<?> getOutbox(
+            @RequestParam(defaultValue = "DEAD") String status,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            OutboxEmail.Status parsed = OutboxEmail.Status.valueOf(status.toUpperCase());
+            return ResponseEntity.ok(emailOutboxService.getByStatus(parsed, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown outbox status: " + status);
+        }
+    }
+
+    /**
+     * Re-queue a dead-lettered message
+     */
+    @PostMapping("/mail/outbox/{id}/retry")
+    public ResponseEntity<?> retryOutboxMessage(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(emailOutboxService.retry(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Every applicant matching the /query filters as a CSV or NDJSON download, streamed
+     * from a database cursor while the response is being written.
+     */
+    @GetMapping("/applicants/export")
+    public ResponseEntity<StreamingResponseBody> exportApplicants(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String project,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String degree,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String sort
+    ) {
+        try {
+            ApplicantFileFormat fileFormat = ApplicantFileFormat.parse(format);
+            Sort order = exportService.resolveSort(sort);
+            ApplicantFilterDTO filter = new ApplicantFilterDTO(project, status, degree, minAge, maxAge, createdFrom, createdTo);
+            StreamingResponseBody body = out -> exportService.export(filter, order, fileFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(fileFormat.contentType() + ";charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"applicants-" + LocalDate.now() + "." + fileFormat.extension() + "\"")
+                    .body(body);
+        } catch (RuntimeException e) {
+            // Streaming endpoints can only return a streaming body, errors included
+            String reason = e.getMessage() != null ? e.getMessage() : "Invalid export request";
+            byte[] message = reason.getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(out -> out.write(message));
+        }
+    }
+
+    /**
+     * Bulk-creates applicants from a CSV (with header row) or NDJSON request body.
+     * The format comes from ?format= or else the Content-Type; rejected rows are
+     * listed in the report and do not stop the import.
+     */
+    @PostMapping("/applicants/import")
+    public ResponseEntity<?> importApplicants(
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        try {
+            if (format == null && contentType != null && contentType.contains("json")) {
+                format = "ndjson";
+            }
+            return ResponseEntity.ok(applicantImportService.importApplicants(body, ApplicantFileFormat.parse(format)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Space saved by compressing stored resumes, in total and for the files that gain most
+     */
+    @GetMapping("/resumes/storage")
+    public ResponseEntity<ResumeStorageStatsDTO> getResumeStorageStats(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(applicantService.getResumeStorageStats(limit));
+    }
+
+    /**
+     * Hit/miss/eviction counters for each application cache
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                CacheStats stats = cache.getNativeCache().stats();
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("size", cache.getNativeCache().estimatedSize());
+                entry.put("hits", stats.hitCount());
+                entry.put("misses", stats.missCount());
+                entry.put("hitRate", stats.hitRate());
+                entry.put("evictions", stats.evictionCount());
+                result.put(name, entry);
+            }
+        }
+        return ResponseEntity.ok(result);
+    }
+
     public static class TestMailRequest {
         public String to;
         public String name;
@@ -1,22 +1,31 @@
 package cabido.backend.controller;
 
 import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantFilterDTO;
+import cabido.backend.dto.ApplicantStatsDTO;
+import cabido.backend.dto.ApplicantSuggestionDTO;
+import cabido.backend.dto.BatchStatusResponseDTO;
+import cabido.backend.dto.ResumeUploadSessionDTO;
+import cabido.backend.service.ApplicantEventBroadcaster;
 import cabido.backend.service.ApplicantService;
+import cabido.backend.service.ResumeUploadService;
 import jakarta.annotation.security.PermitAll;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
-import java.nio.file.Files;
-import java.nio.file.Path;
 
 @RestController
 @RequestMapping({"/api/applicants", "/applicants"})
@@ -24,20 +33,46 @@ public class ApplicantController {
     
     @Autowired
     private ApplicantService applicantService;
+
+    @Autowired
+    private ApplicantEventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private ConditionalJsonResponses conditionalJson;
+
+    @Autowired
+    private ResumeResponseWriter resumeWriter;
+
+    @Autowired
+    private ResumeUploadService resumeUploadService;
     
+    /**
+     * Cursor-paginated listing (newest first). Pass the returned nextCursor back as
+     * {@code cursor} to fetch the following page. Like the other read endpoints it is
+     * tagged with the applicant data version, so an unchanged page revalidates as a 304.
+     */
     @GetMapping
     @PermitAll
-    public ResponseEntity<List<ApplicantDTO>> getAllApplicants() {
-        List<ApplicantDTO> applicants = applicantService.getAllApplicants();
-        return ResponseEntity.ok(applicants);
+    public ResponseEntity<?> getAllApplicants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String project,
+            HttpServletRequest request
+    ) {
+        try {
+            return conditionalJson.respond(request, applicantService.dataVersionTag(),
+                    () -> applicantService.getApplicantsPage(cursor, limit, status, project));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
     
     @GetMapping("/{id}")
     @PermitAll
-    public ResponseEntity<ApplicantDTO> getApplicantById(@PathVariable Long id) {
-        Optional<ApplicantDTO> applicant = applicantService.getApplicantById(id);
-        return applicant.map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<?> getApplicantById(@PathVariable Long id, HttpServletRequest request) {
+        return conditionalJson.respond(request, applicantService.dataVersionTag(),
+                () -> applicantService.getApplicantById(id).orElse(null));
     }
     
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -62,8 +97,12 @@ public class ApplicantController {
             dto.setEmail(email);
             dto.setProjectAppliedFor(projectAppliedFor);
 
+            boolean withResume = resume != null && !resume.isEmpty();
+            if (withResume) {
+                applicantService.checkResume(resume);
+            }
             ApplicantDTO created = applicantService.createApplicant(dto);
-            if (resume != null && !resume.isEmpty()) {
+            if (withResume) {
                 created = applicantService.saveResume(created.getId(), resume);
             }
             return ResponseEntity.status(HttpStatus.CREATED).body(created);
@@ -93,32 +132,108 @@ public class ApplicantController {
         }
     }
 
-    @GetMapping("/{id}/resume")
+    /**
+     * Starts a resumable upload for large files. PUT the file's bytes in chunks to the
+     * returned upload, each at {@code ?offset=} the bytes received so far, then POST
+     * {@code complete}. See {@link ResumeUploadService}.
+     */
+    @PostMapping("/{id}/resume/uploads")
+    @PermitAll
+    public ResponseEntity<?> startResumeUpload(@PathVariable Long id, @RequestBody ResumeUploadRequest req) {
+        try {
+            if (req == null) {
+                return ResponseEntity.badRequest().body("Request body is required");
+            }
+            ResumeUploadSessionDTO session = resumeUploadService.start(id, req.fileName, req.size, req.sha256);
+            return ResponseEntity.status(HttpStatus.CREATED).body(session);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Where an interrupted upload stands
+    @GetMapping("/{id}/resume/uploads/{uploadId}")
+    @PermitAll
+    public ResponseEntity<?> getResumeUpload(@PathVariable Long id, @PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(resumeUploadService.status(id, uploadId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // Raw bytes (application/octet-stream); a chunk at the wrong offset gets 409 and the current one
+    @PutMapping("/{id}/resume/uploads/{uploadId}")
     @PermitAll
-    public ResponseEntity<Resource> getResume(
+    public ResponseEntity<?> uploadResumeChunk(
             @PathVariable Long id,
-            @RequestParam(name = "download", defaultValue = "false") boolean download
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            HttpServletRequest request
     ) {
         try {
-            Resource resource = applicantService.loadResumeAsResource(id);
-            String contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
-            try {
-                Path path = Path.of(resource.getFile().getAbsolutePath());
-                String probed = Files.probeContentType(path);
-                if (probed != null) {
-                    contentType = probed;
-                }
-            } catch (Exception ignored) {}
-            String disposition = download ? "attachment" : "inline";
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, disposition + "; filename=\"" + resource.getFilename() + "\"")
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .body(resource);
+            ResumeUploadService.Chunk chunk = resumeUploadService.append(id, uploadId, offset, request.getInputStream());
+            return ResponseEntity.status(chunk.accepted() ? HttpStatus.OK : HttpStatus.CONFLICT).body(chunk.session());
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/resume/uploads/{uploadId}/complete")
+    @PermitAll
+    public ResponseEntity<?> completeResumeUpload(
+            @PathVariable Long id,
+            @PathVariable String uploadId,
+            @RequestBody(required = false) ResumeUploadRequest req
+    ) {
+        try {
+            ApplicantDTO dto = resumeUploadService.complete(id, uploadId, req == null ? null : req.sha256);
+            return ResponseEntity.ok(dto);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{id}/resume/uploads/{uploadId}")
+    @PermitAll
+    public ResponseEntity<?> abortResumeUpload(@PathVariable Long id, @PathVariable String uploadId) {
+        try {
+            resumeUploadService.abort(id, uploadId);
+            return ResponseEntity.noContent().build();
         } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    public static class ResumeUploadRequest {
+        public String fileName;
+        public Long size;
+        // Hex SHA-256 of the whole file: at start or on completion
+        public String sha256;
+    }
+
+    /**
+     * Streams the resume; supports Range requests (PDF viewers fetch pages lazily)
+     * and conditional requests. See {@link ResumeResponseWriter}.
+     */
+    @GetMapping("/{id}/resume")
+    @PermitAll
+    public void getResume(
+            @PathVariable Long id,
+            @RequestParam(name = "download", defaultValue = "false") boolean download,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ApplicantService.ResumeDownload resume;
+        try {
+            resume = applicantService.loadResume(id);
+        } catch (RuntimeException e) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        resumeWriter.write(request, response, resume, download);
+    }
+
     // Dedicated endpoint to update only status without requiring full DTO
     @PutMapping("/{id}/status")
     @PermitAll
@@ -161,6 +276,25 @@ public class ApplicantController {
     public static class StatusUpdateRequest {
         public String status;
     }
+
+    // Bulk decision (admins only): one transaction, batched statements, notifications queued together
+    @PostMapping("/status:batch")
+    public ResponseEntity<?> updateStatusBatch(@RequestBody BatchStatusRequest req) {
+        try {
+            if (req == null) {
+                return ResponseEntity.badRequest().body("Request body is required");
+            }
+            BatchStatusResponseDTO result = applicantService.updateStatusBatch(req.ids, req.status);
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    public static class BatchStatusRequest {
+        public List<Long> ids;
+        public String status;
+    }
     
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteApplicant(@PathVariable Long id) {
@@ -173,14 +307,97 @@ public class ApplicantController {
     }
     
     @GetMapping("/project/{project}")
-    public ResponseEntity<List<ApplicantDTO>> getApplicantsByProject(@PathVariable String project) {
-        List<ApplicantDTO> applicants = applicantService.getApplicantsByProject(project);
-        return ResponseEntity.ok(applicants);
+    public ResponseEntity<?> getApplicantsByProject(@PathVariable String project, HttpServletRequest request) {
+        return conditionalJson.respond(request, applicantService.dataVersionTag(),
+                () -> applicantService.getApplicantsByProject(project));
     }
     
+    /**
+     * Server-Sent Events feed of created/updated/status_changed/deleted changes.
+     * Browsers resend {@code Last-Event-ID} on reconnect; {@code lastEventId} does the
+     * same for the first connection. A {@code reset} event means "reload the list".
+     * Admins only: EventSource passes a token from POST /api/admin/events/token as
+     * {@code token}.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(name = "lastEventId", required = false) String lastEventIdParam
+    ) {
+        String raw = (lastEventIdHeader != null) ? lastEventIdHeader : lastEventIdParam;
+        Long lastEventId = null;
+        if (raw != null && !raw.isBlank()) {
+            try {
+                lastEventId = Long.parseLong(raw.trim());
+            } catch (NumberFormatException ignored) {
+                // Unknown id format: start from live events only
+            }
+        }
+        try {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    // Stops nginx-style proxies from buffering the stream
+                    .header("X-Accel-Buffering", "no")
+                    .body(eventBroadcaster.subscribe(lastEventId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // Counts per project and status plus recent intake, for the dashboard cards and charts (admins only)
+    @GetMapping("/stats")
+    public ResponseEntity<ApplicantStatsDTO> getStats() {
+        return ResponseEntity.ok(applicantService.getStats());
+    }
+
+    /**
+     * Combined filter over project, status, degree, age range and created-at range
+     * ({@code createdFrom} inclusive, {@code createdTo} exclusive, ISO date-times).
+     * Sort is {@code field,direction} on createdAt, age, lastName or status.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<?> queryApplicants(
+            @RequestParam(required = false) String project,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String degree,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size
+    ) {
+        try {
+            ApplicantFilterDTO filter = new ApplicantFilterDTO(project, status, degree, minAge, maxAge, createdFrom, createdTo);
+            return ResponseEntity.ok(applicantService.queryApplicants(filter, sort, page, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Typeahead: top-N (id, display name) pairs for a name or email prefix, served from memory
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ApplicantSuggestionDTO>> suggestApplicants(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(applicantService.suggestApplicants(q, limit));
+    }
+
+    // Ranked full-text search; "name" is kept as an alias of "q" for older clients
     @GetMapping("/search")
-    public ResponseEntity<List<ApplicantDTO>> searchApplicantsByName(@RequestParam String name) {
-        List<ApplicantDTO> applicants = applicantService.searchApplicantsByName(name);
-        return ResponseEntity.ok(applicants);
+    public ResponseEntity<?> searchApplicants(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size
+    ) {
+        try {
+            String query = (q != null) ? q : name;
+            return ResponseEntity.ok(applicantService.searchApplicants(query, page, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 }
@@ -0,0 +1,136 @@
+package cabido.backend.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Conditional GET for JSON read endpoints whose content is fully described by a
+ * version string (see {@code ApplicantService#dataVersionTag()}).
+ *
+ * <p>The version becomes a strong ETag. When {@code If-None-Match} carries it, the
+ * answer is a 304 and the body supplier (the query) never runs. Otherwise the body is
+ * serialized once and, from {@code app.http.gzip.min-bytes} up, gzipped for clients
+ * that accept it. Compression happens here because Tomcat will not compress a
+ * response with a strong ETag; the gzipped variant gets its own tag, since the bytes
+ * differ.
+ */
+@Component
+public class ConditionalJsonResponses {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    @Value("${app.http.gzip.min-bytes:2048}")
+    private int gzipMinBytes;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * @param body produces the response body; returning null answers 404
+     */
+    public ResponseEntity<?> respond(HttpServletRequest request, String version, Supplier<?> body) {
+        String etag = "\"" + version + "\"";
+        String gzipEtag = "\"" + version + GZIP_SUFFIX + "\"";
+
+        String matched = match(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag, gzipEtag);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(matched)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        Object value = body.get();
+        if (value == null) {
+            return ResponseEntity.notFound().build();
+        }
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize response: " + e.getOriginalMessage());
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (json.length >= gzipMinBytes && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return ok.eTag(gzipEtag)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzip(json));
+        }
+        return ok.eTag(etag).body(json);
+    }
+
+    // Weak comparison, as RFC 9110 prescribes for If-None-Match
+    private static String match(String ifNoneMatch, String etag, String gzipEtag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals(gzipEtag)) {
+                return tag;
+            }
+        }
+        return null;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.equals("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(512, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compress response: " + e.getMessage());
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,17 +1,23 @@
 package cabido.backend.controller;
 
 import cabido.backend.constants.ProjectConstants;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping({"/api/projects", "/projects"})
 public class ProjectController {
+
+    // The list only changes with a deploy, so its own hash is a sufficient version
+    private static final String PROJECTS_VERSION = "projects-" + Integer.toHexString(ProjectConstants.AVAILABLE_PROJECTS.hashCode());
+
+    @Autowired
+    private ConditionalJsonResponses conditionalJson;
     
     @GetMapping
-    public ResponseEntity<List<String>> getAllProjects() {
-        return ResponseEntity.ok(ProjectConstants.AVAILABLE_PROJECTS);
+    public ResponseEntity<?> getAllProjects(HttpServletRequest request) {
+        return conditionalJson.respond(request, PROJECTS_VERSION, () -> ProjectConstants.AVAILABLE_PROJECTS);
     }
 }
@@ -0,0 +1,200 @@
+package cabido.backend.controller;
+
+import cabido.backend.service.ApplicantService;
+import cabido.backend.service.ResumeStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Writes a stored resume to the response: conditional requests, single byte ranges
+ * and the body itself.
+ *
+ * <p>The storage key is a content hash, so it serves as a strong ETag; the upload
+ * time is the Last-Modified date. A matching {@code If-None-Match} or
+ * {@code If-Modified-Since} gets a 304. A single {@code Range} (honoured only while
+ * {@code If-Range} still matches) gets a 206; multi-range requests get the whole file.
+ *
+ * <p>File bodies are handed to Tomcat's sendfile from
+ * {@code app.resume.download.sendfile-min-bytes} up, so the kernel copies page cache
+ * to socket and the worker thread is released as soon as this returns. Smaller
+ * bodies, and connectors without sendfile (TLS), go through
+ * {@link FileChannel#transferTo}; storages that are not files are streamed.
+ *
+ * <p>A resume stored gzipped is sent as stored, with {@code Content-Encoding: gzip}
+ * (and sendfile), to clients that accept gzip and ask for the whole file. That
+ * variant gets its own ETag since its bytes differ. Range requests and other clients
+ * get the original bytes, inflated as they are sent.
+ */
+@Component
+public class ResumeResponseWriter {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Value("${app.resume.download.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    @Autowired
+    private ApplicantService applicantService;
+
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      ApplicantService.ResumeDownload resume, boolean attachment) throws IOException {
+        ResumeStorage.StoredContent stored = resume.stored();
+        boolean encoded = stored != null && stored.encoding() != null;
+        // Byte ranges address the document itself, so they are always served decoded
+        boolean passThrough = encoded && "gzip".equals(stored.encoding())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && ConditionalJsonResponses.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = "\"" + resume.key() + (passThrough ? "-" + stored.encoding() : "") + "\"";
+        long lastModified = resume.uploadedAt() == null ? -1
+                : resume.uploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (encoded) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // Sets ETag/Last-Modified and, when the client's copy is current, the 304 status
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        String fileName = resume.fileName() != null ? resume.fileName() : "resume";
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, (attachment ? "attachment" : "inline") + "; filename=\"" + fileName + "\"");
+        response.setContentType(contentType(resume.contentType()));
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (passThrough) {
+            long storedSize = stored.resource().contentLength();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, stored.encoding());
+            response.setContentLengthLong(storedSize);
+            if ("HEAD".equals(request.getMethod()) || storedSize == 0) {
+                return;
+            }
+            transfer(request, response, stored.resource(), 0, storedSize);
+            applicantService.recordResumeDownload(storedSize);
+            return;
+        }
+
+        long size = resume.size();
+        long start = 0;
+        long length = size;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                // A Range header we cannot parse is ignored, as RFC 9110 allows
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                long first;
+                long last;
+                try {
+                    first = ranges.get(0).getRangeStart(size);
+                    last = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    first = size;
+                    last = -1;
+                }
+                if (first >= size || last < first) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                start = first;
+                length = last - first + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+            }
+        }
+
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+        transfer(request, response, resume.resource(), start, length);
+        applicantService.recordResumeDownload(length);
+    }
+
+    private void transfer(HttpServletRequest request, HttpServletResponse response, Resource resource,
+                          long start, long length) throws IOException {
+        if (!resource.isFile()) {
+            try (InputStream in = resource.getInputStream()) {
+                StreamUtils.copyRange(in, response.getOutputStream(), start, start + length - 1);
+            }
+            return;
+        }
+        Path file = resource.getFile().toPath();
+        if (length >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat insists on the canonical path
+            request.setAttribute(SENDFILE_FILENAME, file.toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    throw new IOException("Resume file ended before " + (start + length) + " bytes");
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // A Range is only honoured while the client's copy is still the current one
+    private static boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return value.equals(etag);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_RANGE, value);
+        try {
+            return lastModified >= 0 && lastModified / 1000 == headers.getFirstDate(HttpHeaders.IF_RANGE) / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String contentType(String recorded) {
+        try {
+            return MediaType.parseMediaType(recorded).toString();
+        } catch (InvalidMediaTypeException e) {
+            // Recorded from the uploading client, so it is not guaranteed to parse
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+}
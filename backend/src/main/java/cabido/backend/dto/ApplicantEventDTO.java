@@ -0,0 +1,20 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Payload of one change-feed event. {@code applicant} is the state after the change
+ * and is null for deletions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantEventDTO {
+
+    private long eventId;
+    private String type;
+    private Long applicantId;
+    private ApplicantDTO applicant;
+}
@@ -0,0 +1,26 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters shared by the query and export endpoints; null fields are ignored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantFilterDTO {
+
+    private String project;
+    private String status;
+    private String degree;
+    private Integer minAge;
+    private Integer maxAge;
+
+    // Inclusive lower bound, exclusive upper bound
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
@@ -0,0 +1,18 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantImportErrorDTO {
+
+    // 1-based data row: CSV records after the header, or non-blank NDJSON lines
+    private long row;
+
+    private String email;
+
+    private String message;
+}
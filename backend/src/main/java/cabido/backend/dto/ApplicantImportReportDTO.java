@@ -0,0 +1,23 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantImportReportDTO {
+
+    private String format;
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private long durationMs;
+
+    // At most ApplicantImportService.MAX_REPORTED_ERRORS entries; failed has the full count
+    private List<ApplicantImportErrorDTO> errors;
+    private boolean errorsTruncated;
+}
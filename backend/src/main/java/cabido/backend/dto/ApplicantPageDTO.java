@@ -0,0 +1,20 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantPageDTO {
+
+    private List<ApplicantSummaryDTO> items;
+
+    // Opaque cursor for the next page; null when this is the last page
+    private String nextCursor;
+
+    private int limit;
+}
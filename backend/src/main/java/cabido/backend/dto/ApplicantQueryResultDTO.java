@@ -0,0 +1,19 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantQueryResultDTO {
+
+    private List<ApplicantSummaryDTO> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private String sort;
+}
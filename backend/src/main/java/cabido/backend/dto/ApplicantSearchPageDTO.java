@@ -0,0 +1,19 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantSearchPageDTO {
+
+    private String query;
+    private int total;
+    private int page;
+    private int size;
+    private List<ApplicantSummaryDTO> items;
+}
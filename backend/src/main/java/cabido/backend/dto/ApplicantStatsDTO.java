@@ -0,0 +1,25 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantStatsDTO {
+
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byProject;
+    // project -> status -> count
+    private Map<String, Map<String, Long>> byProjectAndStatus;
+
+    private long createdToday;
+    private long createdLast7Days;
+    private long createdLast30Days;
+    // ISO date -> applicants created that day, oldest first, covering the last 30 days
+    private Map<String, Long> dailyIntake;
+}
@@ -0,0 +1,14 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantSuggestionDTO {
+
+    private Long id;
+    private String displayName;
+}
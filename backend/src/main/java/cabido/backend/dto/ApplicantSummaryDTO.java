@@ -0,0 +1,35 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the applicant table. Built directly by a constructor projection, so
+ * list queries never load the full experience TEXT or the resume columns and
+ * nothing ends up in the persistence context. Fetch the detail endpoint for the
+ * full record.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantSummaryDTO {
+
+    public static final int EXPERIENCE_PREVIEW_LENGTH = 160;
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String degree;
+    private String projectAppliedFor;
+    private String status;
+    private LocalDateTime createdAt;
+
+    // First EXPERIENCE_PREVIEW_LENGTH characters of relevantExperience
+    private String relevantExperiencePreview;
+
+    private Boolean hasResume;
+}
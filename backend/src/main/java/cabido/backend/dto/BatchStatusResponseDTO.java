@@ -0,0 +1,20 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStatusResponseDTO {
+
+    private String status;
+    private int updated;
+    private int unchanged;
+    private int notFound;
+    private int notificationsQueued;
+    private List<BatchStatusResultDTO> results;
+}
@@ -0,0 +1,18 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStatusResultDTO {
+
+    private Long id;
+
+    // "updated", "unchanged" or "not_found"
+    private String outcome;
+
+    private String status;
+}
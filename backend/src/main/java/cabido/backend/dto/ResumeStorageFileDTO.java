@@ -0,0 +1,24 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeStorageFileDTO {
+
+    private Long applicantId;
+    private String fileName;
+    private String contentType;
+
+    // Bytes as uploaded
+    private long size;
+
+    // Bytes on disk
+    private long storedSize;
+
+    private long savedBytes;
+    private double savedPercent;
+}
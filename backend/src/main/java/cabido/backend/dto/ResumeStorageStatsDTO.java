@@ -0,0 +1,24 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeStorageStatsDTO {
+
+    // Applicants with a stored resume
+    private long resumes;
+
+    private long originalBytes;
+    private long storedBytes;
+    private long savedBytes;
+    private double savedPercent;
+
+    // The files that save the most, largest saving first
+    private List<ResumeStorageFileDTO> files;
+}
@@ -0,0 +1,28 @@
+package cabido.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeUploadSessionDTO {
+
+    private String uploadId;
+
+    private Long applicantId;
+
+    private String fileName;
+
+    // Total bytes announced when the session was created
+    private Long size;
+
+    // Bytes received so far: where the next chunk has to start
+    private Long offset;
+
+    // When the session is purged if no further chunk arrives
+    private LocalDateTime expiresAt;
+}
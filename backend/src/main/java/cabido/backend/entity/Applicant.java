@@ -12,14 +12,28 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applicants")
+// Indexes back the keyset listing and every filter supported by GET /api/applicants/query,
+// and resume_key the lookups of the orphaned resume sweep
+@Table(name = "applicants", indexes = {
+        @Index(name = "idx_applicants_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_applicants_project_status_created", columnList = "project_applied_for, status, created_at"),
+        @Index(name = "idx_applicants_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_applicants_age", columnList = "age"),
+        @Index(name = "idx_applicants_degree", columnList = "degree"),
+        @Index(name = "idx_applicants_resume_key", columnList = "resume_key")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Applicant {
-    
+
+    // Ids handed out per sequence round trip; see ApplicantSequenceInitializer
+    public static final int ID_ALLOCATION_SIZE = 500;
+
+    // Pooled sequence (a table on MySQL) instead of IDENTITY so imports can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applicants_seq")
+    @SequenceGenerator(name = "applicants_seq", sequenceName = "applicants_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @NotBlank(message = "First name is required")
@@ -58,8 +72,24 @@ public class Applicant {
     @Column(name = "resume_content_type")
     private String resumeContentType;
 
-    @Column(name = "resume_path")
-    private String resumePath;
+    // Key in ResumeStorage; the file itself is addressed by its content hash
+    @Column(name = "resume_key", length = 64)
+    private String resumeKey;
+
+    // Recorded at upload so downloads can answer Range and conditional requests from the row
+    @Column(name = "resume_size")
+    private Long resumeSize;
+
+    // Bytes on disk: smaller than resume_size when the blob is stored compressed
+    @Column(name = "resume_stored_size")
+    private Long resumeStoredSize;
+
+    // Hex SHA-256 of the uploaded bytes, whatever key the storage files them under
+    @Column(name = "resume_sha256", length = 64)
+    private String resumeSha256;
+
+    @Column(name = "resume_uploaded_at")
+    private LocalDateTime resumeUploadedAt;
     
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
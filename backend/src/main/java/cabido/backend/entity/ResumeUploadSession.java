@@ -0,0 +1,49 @@
+package cabido.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A chunked resume upload in progress. The bytes received so far are kept by
+ * ResumeStorage under the same id; this row records what the client announced when
+ * it started. Rows idle for longer than the session TTL are purged together with
+ * their bytes by ResumeUploadService.
+ */
+@Entity
+@Table(name = "resume_upload_sessions", indexes = {
+        @Index(name = "idx_resume_upload_sessions_updated_at", columnList = "updated_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeUploadSession {
+
+    // Random UUID, also the name of the staged part in storage
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "applicant_id", nullable = false)
+    private Long applicantId;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    // Hex SHA-256 of the whole file if the client sent it up front; otherwise given on completion
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Last accepted chunk; the TTL counts from here
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
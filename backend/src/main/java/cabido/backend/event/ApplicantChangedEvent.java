@@ -0,0 +1,23 @@
+package cabido.backend.event;
+
+import cabido.backend.dto.ApplicantDTO;
+
+/**
+ * Published by ApplicantService for every applicant mutation. Listeners that keep
+ * derived state (search index, caches, counters) should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)} so they only see
+ * changes that actually committed.
+ *
+ * <p>{@code before} is null for CREATED, {@code after} is null for DELETED. For
+ * STATUS_CHANGED raised by bulk updates the snapshots carry only the summary
+ * fields (id, names, email, project, status).
+ */
+public record ApplicantChangedEvent(Type type, Long id, ApplicantDTO before, ApplicantDTO after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+}
@@ -0,0 +1,17 @@
+package cabido.backend.repository;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the (project, status, created day) GROUP BY that seeds the dashboard counters.
+ */
+public interface ApplicantCountView {
+
+    String getProject();
+
+    String getStatus();
+
+    LocalDate getDay();
+
+    long getTotal();
+}
@@ -0,0 +1,15 @@
+package cabido.backend.repository;
+
+/**
+ * Closed projection used to (re)build the typeahead suggestions at startup.
+ */
+public interface ApplicantNameView {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+}
@@ -1,23 +1,58 @@
 package cabido.backend.repository;
 
 import cabido.backend.entity.Applicant;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
+public interface ApplicantRepository extends JpaRepository<Applicant, Long>, JpaSpecificationExecutor<Applicant>, ApplicantRepositoryCustom {
     
     Optional<Applicant> findByEmail(String email);
     
     List<Applicant> findByProjectAppliedFor(String projectAppliedFor);
     
-    @Query("SELECT a FROM Applicant a WHERE a.firstName LIKE %:name% OR a.lastName LIKE %:name%")
-    List<Applicant> findByNameContaining(@Param("name") String name);
-    
     boolean existsByEmail(String email);
+
+    // Dynamic projection: pass Applicant.class or a view interface such as ApplicantNameView
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit, Class<T> type);
+
+    List<ApplicantStatusView> findByIdIn(Collection<Long> ids);
+
+    // One round trip to check a whole import chunk for emails that are already taken
+    @Query("SELECT a.email FROM Applicant a WHERE a.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Which of a batch of storage keys some applicant still records, for the orphan sweep
+    @Query("SELECT DISTINCT a.resumeKey FROM Applicant a WHERE a.resumeKey IN :keys")
+    List<String> findReferencedResumeKeys(@Param("keys") Collection<String> keys);
+
+    @Query("SELECT a.projectAppliedFor AS project, a.status AS status, EXTRACT(DATE FROM a.createdAt) AS day, COUNT(a) AS total "
+            + "FROM Applicant a GROUP BY a.projectAppliedFor, a.status, EXTRACT(DATE FROM a.createdAt)")
+    List<ApplicantCountView> countByProjectStatusAndDay();
+
+    // Rows from before sizes on disk were recorded count as stored uncompressed
+    @Query("SELECT a.id AS applicantId, a.resumeFileName AS fileName, a.resumeContentType AS contentType, a.resumeSize AS size, "
+            + "COALESCE(a.resumeStoredSize, a.resumeSize) AS storedSize FROM Applicant a WHERE a.resumeKey IS NOT NULL "
+            + "ORDER BY a.resumeSize - COALESCE(a.resumeStoredSize, a.resumeSize) DESC, a.id")
+    List<ResumeStorageView> findResumeStorage(Limit limit);
+
+    @Query("SELECT COUNT(a) AS files, SUM(a.resumeSize) AS size, SUM(COALESCE(a.resumeStoredSize, a.resumeSize)) AS storedSize "
+            + "FROM Applicant a WHERE a.resumeKey IS NOT NULL")
+    ResumeStorageTotalsView sumResumeStorage();
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Applicant a SET a.status = :status, a.updatedAt = :updatedAt WHERE a.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") String status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,28 @@
+package cabido.backend.repository;
+
+import cabido.backend.dto.ApplicantSummaryDTO;
+import cabido.backend.entity.Applicant;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ApplicantRepositoryCustom {
+
+    /**
+     * Summary rows matching {@code spec}, selecting only the table-view columns.
+     * A {@code limit} of zero or less means no limit.
+     */
+    List<ApplicantSummaryDTO> findSummaries(Specification<Applicant> spec, Sort sort, int limit);
+
+    // Same as above, skipping the first {@code offset} rows
+    List<ApplicantSummaryDTO> findSummaries(Specification<Applicant> spec, Sort sort, int offset, int limit);
+
+    /**
+     * Feeds every applicant matching {@code spec} to {@code action} from a forward-only
+     * cursor, detaching each entity afterwards so the persistence context stays empty.
+     * Must run inside a transaction. Returns the number of rows visited.
+     */
+    long forEachApplicant(Specification<Applicant> spec, Sort sort, Consumer<Applicant> action);
+}
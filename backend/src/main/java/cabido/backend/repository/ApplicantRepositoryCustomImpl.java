@@ -0,0 +1,111 @@
+package cabido.backend.repository;
+
+import cabido.backend.dto.ApplicantSummaryDTO;
+import cabido.backend.entity.Applicant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+class ApplicantRepositoryCustomImpl implements ApplicantRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicantSummaryDTO> findSummaries(Specification<Applicant> spec, Sort sort, int limit) {
+        return findSummaries(spec, sort, 0, limit);
+    }
+
+    @Override
+    public List<ApplicantSummaryDTO> findSummaries(Specification<Applicant> spec, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApplicantSummaryDTO> query = cb.createQuery(ApplicantSummaryDTO.class);
+        Root<Applicant> root = query.from(Applicant.class);
+
+        query.select(cb.construct(ApplicantSummaryDTO.class,
+                root.get("id"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("email"),
+                root.get("degree"),
+                root.get("projectAppliedFor"),
+                root.get("status"),
+                root.get("createdAt"),
+                cb.substring(root.get("relevantExperience"), 1, ApplicantSummaryDTO.EXPERIENCE_PREVIEW_LENGTH),
+                cb.<Boolean>selectCase()
+                        .when(cb.isNull(root.get("resumeKey")), false)
+                        .otherwise(true)));
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        TypedQuery<ApplicantSummaryDTO> typed = entityManager.createQuery(query);
+        if (offset > 0) {
+            typed.setFirstResult(offset);
+        }
+        if (limit > 0) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+
+    @Override
+    public long forEachApplicant(Specification<Applicant> spec, Sort sort, Consumer<Applicant> action) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Applicant> query = cb.createQuery(Applicant.class);
+        Root<Applicant> root = query.from(Applicant.class);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        SelectionQuery<Applicant> typed = entityManager.unwrap(Session.class).createSelectionQuery(query)
+                .setReadOnly(true)
+                .setFetchSize(streamFetchSize());
+        long count = 0;
+        try (ScrollableResults<Applicant> rows = typed.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                Applicant applicant = rows.get();
+                action.accept(applicant);
+                entityManager.detach(applicant);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Connector/J only streams row by row (instead of buffering the whole result) with MIN_VALUE
+    private int streamFetchSize() {
+        String database = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(database) ? Integer.MIN_VALUE : STREAM_FETCH_SIZE;
+    }
+}
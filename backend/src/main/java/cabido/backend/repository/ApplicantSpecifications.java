@@ -0,0 +1,101 @@
+package cabido.backend.repository;
+
+import cabido.backend.entity.Applicant;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Reusable query predicates for {@link Applicant}. Each method returns null when
+ * its argument is absent so callers can chain them with {@code and(...)} and only
+ * the filters actually requested end up in the SQL.
+ */
+public final class ApplicantSpecifications {
+
+    private ApplicantSpecifications() {
+    }
+
+    public static Specification<Applicant> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Applicant> nameContains(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + name + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("firstName"), pattern),
+                cb.like(root.get("lastName"), pattern));
+    }
+
+    public static Specification<Applicant> hasStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Applicant> hasProject(String project) {
+        if (project == null || project.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("projectAppliedFor"), project);
+    }
+
+    public static Specification<Applicant> hasDegree(String degree) {
+        if (degree == null || degree.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("degree"), degree);
+    }
+
+    public static Specification<Applicant> ageBetween(Integer minAge, Integer maxAge) {
+        if (minAge == null && maxAge == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minAge == null) {
+                return cb.le(root.get("age"), maxAge);
+            }
+            if (maxAge == null) {
+                return cb.ge(root.get("age"), minAge);
+            }
+            return cb.between(root.get("age"), minAge, maxAge);
+        };
+    }
+
+    // Half-open range [from, to) so adjacent ranges never double count a row
+    public static Specification<Applicant> createdBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get("createdAt"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("createdAt"), from),
+                    cb.lessThan(root.get("createdAt"), to));
+        };
+    }
+
+    /**
+     * Keyset predicate for a (created_at DESC, id DESC) ordering: rows strictly after
+     * the given position, i.e. older, or equally old with a smaller id.
+     */
+    public static Specification<Applicant> createdBefore(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.get("id"), id)));
+    }
+}
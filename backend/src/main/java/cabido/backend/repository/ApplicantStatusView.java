@@ -0,0 +1,20 @@
+package cabido.backend.repository;
+
+/**
+ * Closed projection with just what a status change and its notification need,
+ * so bulk decisions never load the TEXT experience column or resume fields.
+ */
+public interface ApplicantStatusView {
+
+    Long getId();
+
+    String getEmail();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getProjectAppliedFor();
+
+    String getStatus();
+}
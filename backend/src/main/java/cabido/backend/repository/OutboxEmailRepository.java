@@ -0,0 +1,71 @@
+package cabido.backend.repository;
+
+import cabido.backend.entity.OutboxEmail;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    /**
+     * Rows ready to send: PENDING rows whose backoff has elapsed, plus SENDING rows
+     * whose lease expired (the worker that claimed them died mid-send).
+     */
+    @Query("SELECT o FROM OutboxEmail o WHERE o.status IN :statuses AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<OutboxEmail> findDue(@Param("statuses") Collection<OutboxEmail.Status> statuses,
+                              @Param("now") LocalDateTime now,
+                              Limit limit);
+
+    /**
+     * Compare-and-set claim: succeeds (returns 1) only if nobody else has touched the
+     * row since it was read, so concurrent pollers or instances never double-send.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEmail o SET o.status = cabido.backend.entity.OutboxEmail.Status.SENDING, o.nextAttemptAt = :leaseUntil " +
+            "WHERE o.id = :id AND o.status = :expectedStatus AND o.nextAttemptAt = :expectedNextAttemptAt")
+    int claim(@Param("id") Long id,
+              @Param("expectedStatus") OutboxEmail.Status expectedStatus,
+              @Param("expectedNextAttemptAt") LocalDateTime expectedNextAttemptAt,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Records a delivery, but only while the caller's lease is still the current one:
+     * returns 0 if the lease ran out and another worker re-claimed the row meanwhile.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEmail o SET o.status = cabido.backend.entity.OutboxEmail.Status.SENT, o.attempts = o.attempts + 1, " +
+            "o.sentAt = :now, o.lastError = NULL, o.updatedAt = :now " +
+            "WHERE o.id = :id AND o.status = cabido.backend.entity.OutboxEmail.Status.SENDING AND o.nextAttemptAt = :leaseUntil")
+    int markSent(@Param("id") Long id,
+                 @Param("leaseUntil") LocalDateTime leaseUntil,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * Records a failed attempt (rescheduled as PENDING or dead-lettered as DEAD) under the
+     * same lease check as {@link #markSent}.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEmail o SET o.status = :status, o.attempts = o.attempts + 1, o.lastError = :lastError, " +
+            "o.nextAttemptAt = :nextAttemptAt, o.updatedAt = :now " +
+            "WHERE o.id = :id AND o.status = cabido.backend.entity.OutboxEmail.Status.SENDING AND o.nextAttemptAt = :leaseUntil")
+    int markFailed(@Param("id") Long id,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("status") OutboxEmail.Status status,
+                   @Param("lastError") String lastError,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("now") LocalDateTime now);
+
+    List<OutboxEmail> findByStatusOrderByUpdatedAtDesc(OutboxEmail.Status status, Limit limit);
+}
@@ -0,0 +1,13 @@
+package cabido.backend.repository;
+
+/**
+ * Sizes summed over every stored resume; the sums are null when there are none.
+ */
+public interface ResumeStorageTotalsView {
+
+    long getFiles();
+
+    Long getSize();
+
+    Long getStoredSize();
+}
@@ -0,0 +1,17 @@
+package cabido.backend.repository;
+
+/**
+ * One stored resume's original size against its size on disk.
+ */
+public interface ResumeStorageView {
+
+    Long getApplicantId();
+
+    String getFileName();
+
+    String getContentType();
+
+    Long getSize();
+
+    Long getStoredSize();
+}
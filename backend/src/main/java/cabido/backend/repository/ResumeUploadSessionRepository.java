@@ -0,0 +1,16 @@
+package cabido.backend.repository;
+
+import cabido.backend.entity.ResumeUploadSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ResumeUploadSessionRepository extends JpaRepository<ResumeUploadSession, String> {
+
+    // Sessions nobody has sent a chunk to since the cutoff
+    List<ResumeUploadSession> findByUpdatedAtBefore(LocalDateTime cutoff, Limit limit);
+}
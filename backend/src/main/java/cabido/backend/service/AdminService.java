@@ -19,6 +19,9 @@ public class AdminService {
     
     @Autowired
     private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private AdminTokenService adminTokenService;
     
     public AuthResponseDTO login(AdminLoginDTO loginDTO) {
         Optional<Admin> adminOptional = adminRepository.findByEmail(loginDTO.getEmail());
@@ -34,7 +37,7 @@ public class AdminService {
         }
         
         AdminDTO adminDTO = convertToDTO(admin);
-        return new AuthResponseDTO("Login successful", true, "dummy-token", adminDTO);
+        return new AuthResponseDTO("Login successful", true, adminTokenService.issue(admin.getId()), adminDTO);
     }
     
     public AdminDTO createAdmin(String email, String password, String firstName, String lastName) {
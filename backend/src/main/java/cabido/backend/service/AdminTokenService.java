@@ -0,0 +1,244 @@
+package cabido.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and verifies stateless admin tokens.
+ *
+ * <p>A token is {@code keyId.payload.signature}: the payload is the admin id, expiry
+ * (epoch seconds) and a random token id, base64url-encoded, and the signature is
+ * HMAC-SHA256 over {@code keyId.payload}. Verification is a base64 decode, one HMAC
+ * and a map lookup, with no database or BCrypt work.
+ *
+ * <p>Keys come from {@code app.auth.token.keys} as {@code id:base64secret} pairs. New
+ * tokens are signed with the active key while every listed key still verifies, so a
+ * key is rotated by adding a new one, making it active, and removing the old one once
+ * its tokens have expired. Without configured keys a random key is generated at
+ * startup, which logs everyone out on restart.
+ *
+ * <p>Stream tokens let the dashboard's EventSource, which cannot send headers, pass
+ * a token in the URL. They live for {@code app.auth.stream-token.ttl-seconds} and are
+ * signed over a different prefix, so one leaked from a URL or an access log can open
+ * the event stream for a minute but never passes as an admin token, nor the reverse.
+ */
+@Service
+public class AdminTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_BYTES = 24;
+    // Signed in front of keyId.payload; admin tokens sign it as it is
+    private static final String STREAM_PURPOSE = "stream:";
+
+    @Value("${app.auth.token.keys:}")
+    private String configuredKeys;
+
+    @Value("${app.auth.token.active-key-id:}")
+    private String configuredActiveKeyId;
+
+    @Value("${app.auth.token.ttl-minutes:480}")
+    private long ttlMinutes;
+
+    @Value("${app.auth.stream-token.ttl-seconds:60}")
+    private long streamTtlSeconds;
+
+    private final SecureRandom random = new SecureRandom();
+
+    // key id -> initialized Mac; cloned per use because Mac is not thread-safe
+    private volatile Map<String, Mac> keys = Map.of();
+    private volatile String activeKeyId;
+
+    // token id -> expiry (epoch seconds); entries are dropped once the token would have expired anyway
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+
+    public record AdminPrincipal(Long adminId, long tokenId, Instant expiresAt, String keyId) {
+    }
+
+    @PostConstruct
+    void init() {
+        Map<String, Mac> loaded = new LinkedHashMap<>();
+        if (configuredKeys != null && !configuredKeys.isBlank()) {
+            for (String entry : configuredKeys.split(",")) {
+                String trimmed = entry.trim();
+                int colon = trimmed.indexOf(':');
+                if (colon <= 0) {
+                    throw new IllegalStateException("app.auth.token.keys entries must be id:base64secret");
+                }
+                String id = trimmed.substring(0, colon);
+                if (id.contains(".")) {
+                    throw new IllegalStateException("Token key id must not contain '.': " + id);
+                }
+                loaded.put(id, mac(Base64.getDecoder().decode(trimmed.substring(colon + 1))));
+            }
+        }
+        if (loaded.isEmpty()) {
+            System.out.println("No app.auth.token.keys configured; using a random signing key (tokens will not survive a restart)");
+            String id = generatedKeyId();
+            loaded.put(id, mac(randomSecret()));
+        }
+        String active = (configuredActiveKeyId == null || configuredActiveKeyId.isBlank())
+                ? loaded.keySet().iterator().next()
+                : configuredActiveKeyId;
+        if (!loaded.containsKey(active)) {
+            throw new IllegalStateException("app.auth.token.active-key-id " + active + " is not among app.auth.token.keys");
+        }
+        keys = Map.copyOf(loaded);
+        activeKeyId = active;
+    }
+
+    public String issue(Long adminId) {
+        return issue(adminId, Duration.ofMinutes(ttlMinutes), "");
+    }
+
+    public String issueStreamToken(Long adminId) {
+        return issue(adminId, Duration.ofSeconds(streamTtlSeconds), STREAM_PURPOSE);
+    }
+
+    public long getStreamTokenTtlSeconds() {
+        return streamTtlSeconds;
+    }
+
+    private String issue(Long adminId, Duration ttl, String purpose) {
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_BYTES);
+        payload.putLong(adminId);
+        payload.putLong(expires);
+        payload.putLong(random.nextLong());
+        String keyId = activeKeyId;
+        String signed = keyId + "." + encode(payload.array());
+        return signed + "." + encode(sign(keys.get(keyId), purpose + signed));
+    }
+
+    /**
+     * Returns the principal for a well-formed, correctly signed, unexpired and
+     * unrevoked token; empty for anything else.
+     */
+    public Optional<AdminPrincipal> verify(String token) {
+        return verify(token, "");
+    }
+
+    public Optional<AdminPrincipal> verifyStreamToken(String token) {
+        return verify(token, STREAM_PURPOSE);
+    }
+
+    private Optional<AdminPrincipal> verify(String token, String purpose) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot <= firstDot) {
+            return Optional.empty();
+        }
+        String keyId = token.substring(0, firstDot);
+        Mac mac = keys.get(keyId);
+        if (mac == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] expected = sign(mac, purpose + token.substring(0, lastDot));
+            byte[] actual = Base64.getUrlDecoder().decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return Optional.empty();
+            }
+            byte[] payloadBytes = Base64.getUrlDecoder().decode(token.substring(firstDot + 1, lastDot));
+            if (payloadBytes.length != PAYLOAD_BYTES) {
+                return Optional.empty();
+            }
+            ByteBuffer payload = ByteBuffer.wrap(payloadBytes);
+            long adminId = payload.getLong();
+            long expires = payload.getLong();
+            long tokenId = payload.getLong();
+            if (Instant.now().getEpochSecond() >= expires || revoked.containsKey(tokenId)) {
+                return Optional.empty();
+            }
+            return Optional.of(new AdminPrincipal(adminId, tokenId, Instant.ofEpochSecond(expires), keyId));
+        } catch (IllegalArgumentException e) {
+            // Not valid base64url
+            return Optional.empty();
+        }
+    }
+
+    public void revoke(AdminPrincipal principal) {
+        revoked.put(principal.tokenId(), principal.expiresAt().getEpochSecond());
+    }
+
+    /**
+     * Generates a fresh in-memory signing key and makes it active; existing keys keep
+     * verifying. Use configured keys for anything that must survive a restart or be
+     * shared between instances.
+     */
+    public String rotateKey() {
+        Map<String, Mac> next = new LinkedHashMap<>(keys);
+        String id = generatedKeyId();
+        next.put(id, mac(randomSecret()));
+        keys = Map.copyOf(next);
+        activeKeyId = id;
+        return id;
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public int revokedCount() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.token.revocation-purge-ms:60000}")
+    public void purgeExpiredRevocations() {
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expires -> expires <= now);
+    }
+
+    private String generatedKeyId() {
+        return "gen-" + LocalDate.now() + "-" + Integer.toHexString(random.nextInt());
+    }
+
+    private byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        return secret;
+    }
+
+    private static Mac mac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+    }
+
+    private static byte[] sign(Mac prototype, String data) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(data.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,250 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantEventDTO;
+import cabido.backend.event.ApplicantChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans applicant changes out to Server-Sent Events subscribers.
+ *
+ * <p>Every committed {@link ApplicantChangedEvent} gets a sequence number and is kept
+ * in a bounded replay log, so a client reconnecting with {@code Last-Event-ID} picks up
+ * where it left off. When the gap is older than the log the client gets a
+ * {@code reset} event and should reload instead.
+ *
+ * <p>Publishing never blocks on a network write: each subscriber has a fixed-size
+ * queue drained by the sseExecutor, and a subscriber whose queue is full, or whose
+ * write has been stuck for longer than {@code app.sse.write-timeout-ms} (checked on
+ * each heartbeat), is disconnected. Its browser reconnects and resumes from the log,
+ * while the other subscribers and the request that made the change are unaffected.
+ * The emitter itself is only ever completed by the subscriber's own drain task, as
+ * completing it elsewhere would wait for the stuck write. When the sseExecutor has no
+ * thread left for a drain task, that subscriber is disconnected on the spot instead.
+ */
+@Component
+public class ApplicantEventBroadcaster {
+
+    public static final String RESET_EVENT = "reset";
+
+    @Autowired
+    @Qualifier("sseExecutor")
+    private TaskExecutor executor;
+
+    @Value("${app.sse.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.sse.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${app.sse.max-subscribers:200}")
+    private int maxSubscribers;
+
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.sse.write-timeout-ms:10000}")
+    private long writeTimeoutMs;
+
+    // Guards the sequence, the replay log and enqueueing, so every subscriber sees ids in order
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final ArrayDeque<ApplicantEventDTO> replayLog = new ArrayDeque<>();
+    private long sequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicantChanged(ApplicantChangedEvent event) {
+        String type = event.type().name().toLowerCase(Locale.ROOT);
+        publishLock.lock();
+        try {
+            ApplicantEventDTO dto = new ApplicantEventDTO(++sequence, type, event.id(), event.after());
+            replayLog.addLast(dto);
+            while (replayLog.size() > replaySize) {
+                replayLog.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(toSse(dto))) {
+                    evict(subscriber);
+                } else {
+                    subscriber.scheduleDrain();
+                }
+            }
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Opens a stream. With a {@code lastEventId} the events after it are replayed first,
+     * or a single {@code reset} event is sent if they have aged out of the log.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RuntimeException("Too many event subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        publishLock.lock();
+        try {
+            if (lastEventId != null && lastEventId < sequence) {
+                long oldest = replayLog.isEmpty() ? sequence + 1 : replayLog.peekFirst().getEventId();
+                long missed = sequence - lastEventId;
+                if (lastEventId + 1 < oldest || missed > bufferSize) {
+                    subscriber.offer(SseEmitter.event().id(String.valueOf(sequence)).name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON));
+                } else {
+                    for (ApplicantEventDTO dto : replayLog) {
+                        if (dto.getEventId() > lastEventId) {
+                            subscriber.offer(toSse(dto));
+                        }
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        } finally {
+            publishLock.unlock();
+        }
+        subscriber.scheduleDrain();
+        return emitter;
+    }
+
+    // Keeps idle connections alive through proxies, surfaces dead ones as write errors
+    // and drops clients that stopped reading
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long writeStartedAt = subscriber.writeStartedAt;
+            if (writeStartedAt != 0 && now - writeStartedAt > TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs)) {
+                evict(subscriber);
+            } else if (subscriber.queue.isEmpty() && subscriber.offer(SseEmitter.event().comment("keep-alive"))) {
+                subscriber.scheduleDrain();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long lastEventId() {
+        publishLock.lock();
+        try {
+            return sequence;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(ApplicantEventDTO dto) {
+        return SseEmitter.event()
+                .id(String.valueOf(dto.getEventId()))
+                .name(dto.getType())
+                .data(dto, MediaType.APPLICATION_JSON);
+    }
+
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+        volatile boolean completed;
+        // System.nanoTime() when the write in progress began; 0 while not writing
+        volatile long writeStartedAt;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        boolean offer(SseEmitter.SseEventBuilder event) {
+            return !closed && queue.offer(event);
+        }
+
+        // Stops delivery; the drain task completes the emitter once no write is in progress
+        void close() {
+            closed = true;
+            scheduleDrain();
+        }
+
+        // At most one drain task per subscriber is queued or running
+        void scheduleDrain() {
+            boolean work = closed ? !completed : !queue.isEmpty();
+            if (work && draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Every writer is busy (or stuck): drop this client rather than fail the
+                    // publisher, whose transaction has already committed
+                    abandon();
+                }
+            }
+        }
+
+        // Without a drain task no write is in progress, so completing here cannot block
+        private void abandon() {
+            closed = true;
+            completed = true;
+            subscribers.remove(this);
+            draining.set(false);
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // Already completed or the response is gone
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder next;
+                while (!closed && (next = queue.poll()) != null) {
+                    writeStartedAt = System.nanoTime();
+                    emitter.send(next);
+                    writeStartedAt = 0;
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away mid-write; the emitter callbacks may not fire for this
+                closed = true;
+                completed = true;
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                writeStartedAt = 0;
+                draining.set(false);
+            }
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantFilterDTO;
+import cabido.backend.entity.Applicant;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.util.CsvWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes applicants matching the list filters to a stream as CSV or NDJSON.
+ *
+ * <p>Rows come from {@link ApplicantRepository#forEachApplicant}, a forward-only cursor
+ * that detaches each entity once written, so memory stays flat however many rows match
+ * and the first bytes leave before the query has finished. The CSV header uses the
+ * column names the import understands, so an export can be fed back in.
+ */
+@Service
+public class ApplicantExportService {
+
+    public static final String[] CSV_HEADER = {
+            "ID", "First Name", "Last Name", "Age", "Degree", "Relevant Experience",
+            "Email", "Project Applied For", "Status", "Created At"
+    };
+
+    // Push bytes to the client regularly even when rows are small
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private ApplicantService applicantService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Validates the sort up front so a bad request fails before any body is sent.
+     */
+    public Sort resolveSort(String sort) {
+        return ApplicantService.parseQuerySort(sort);
+    }
+
+    @Transactional(readOnly = true)
+    public long export(ApplicantFilterDTO filter, Sort sort, ApplicantFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rows = format == ApplicantFileFormat.CSV ? csvRows(writer) : ndjsonRows(writer);
+        long[] written = {0};
+        try {
+            applicantRepository.forEachApplicant(ApplicantService.filterSpecification(filter), sort, applicant -> {
+                try {
+                    rows.write(applicant);
+                    if (++written[0] % FLUSH_EVERY_ROWS == 1) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client disconnecting; stops the cursor instead of reading on
+            throw e.getCause();
+        }
+        writer.flush();
+        return written[0];
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Applicant applicant) throws IOException;
+    }
+
+    private RowWriter csvRows(Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord(CSV_HEADER);
+        return a -> csv.writeRecord(
+                String.valueOf(a.getId()),
+                a.getFirstName(),
+                a.getLastName(),
+                Objects.toString(a.getAge(), null),
+                a.getDegree(),
+                a.getRelevantExperience(),
+                a.getEmail(),
+                a.getProjectAppliedFor(),
+                a.getStatus(),
+                Objects.toString(a.getCreatedAt(), null));
+    }
+
+    private RowWriter ndjsonRows(Writer writer) throws IOException {
+        ObjectWriter dtoWriter = objectMapper.writerFor(ApplicantDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        return a -> {
+            dtoWriter.writeValue(generator, applicantService.convertToDTO(a));
+            generator.writeRaw('\n');
+            generator.flush();
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package cabido.backend.service;
+
+import java.util.Locale;
+
+/**
+ * Line-oriented file formats accepted by the applicant import and produced by the export.
+ */
+public enum ApplicantFileFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ApplicantFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ApplicantFileFormat parse(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return ApplicantFileFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unsupported format: " + value + " (use csv or ndjson)");
+        }
+    }
+}
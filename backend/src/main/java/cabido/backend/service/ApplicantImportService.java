@@ -0,0 +1,314 @@
+package cabido.backend.service;
+
+import cabido.backend.constants.ProjectConstants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantImportErrorDTO;
+import cabido.backend.dto.ApplicantImportReportDTO;
+import cabido.backend.entity.Applicant;
+import cabido.backend.event.ApplicantChangedEvent;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.util.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk-creates applicants from a CSV or NDJSON stream.
+ *
+ * <p>The body is read one record at a time and never held in memory as a whole. Rows
+ * are validated with the same constraints as the public form plus
+ * {@link ProjectConstants}, then collected into chunks of {@value #CHUNK_SIZE}. Each
+ * chunk costs one query for already-registered emails and one transaction of batched
+ * inserts (ids come from the pooled applicants_seq, so Hibernate never needs a round
+ * trip per row). A bad row is reported and skipped; it never fails the rest of the
+ * import.
+ */
+@Service
+public class ApplicantImportService {
+
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    // Normalized header name (lower case, letters and digits only) -> ApplicantDTO property
+    private static final Map<String, String> CSV_COLUMNS = Map.of(
+            "firstname", "firstName",
+            "lastname", "lastName",
+            "age", "age",
+            "degree", "degree",
+            "relevantexperience", "relevantExperience",
+            "experience", "relevantExperience",
+            "email", "email",
+            "projectappliedfor", "projectAppliedFor",
+            "project", "projectAppliedFor"
+    );
+
+    private static final List<String> FIELDS = List.of(
+            "firstName", "lastName", "age", "degree", "relevantExperience", "email", "projectAppliedFor");
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private ApplicantService applicantService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private record Row(long row, ApplicantDTO applicant) {
+    }
+
+    public ApplicantImportReportDTO importApplicants(InputStream body, ApplicantFileFormat format) {
+        Run run = new Run(format);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024)) {
+            if (format == ApplicantFileFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+            run.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read import: " + e.getMessage());
+        }
+        return run.report();
+    }
+
+    private void readCsv(BufferedReader reader, Run run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new RuntimeException("Import is empty; a CSV header row is required");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String property = CSV_COLUMNS.get(header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", ""));
+            if (property != null) {
+                columns.putIfAbsent(property, i);
+            }
+        }
+        List<String> missing = FIELDS.stream().filter(f -> !columns.containsKey(f)).toList();
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("CSV header is missing column(s): " + String.join(", ", missing));
+        }
+
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            long row = run.nextRow();
+            if (fields.size() != header.size()) {
+                run.reject(row, null, "Expected " + header.size() + " fields but found " + fields.size());
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (Map.Entry<String, Integer> column : columns.entrySet()) {
+                values.put(column.getKey(), fields.get(column.getValue()));
+            }
+            run.accept(row, values);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Run run) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long row = run.nextRow();
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                run.reject(row, null, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (node == null || !node.isObject()) {
+                run.reject(row, null, "Each line must be a JSON object");
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (String field : FIELDS) {
+                JsonNode value = node.get(field);
+                values.put(field, value != null && value.isValueNode() && !value.isNull() ? value.asText() : null);
+            }
+            run.accept(row, values);
+        }
+    }
+
+    private ApplicantDTO toApplicant(Map<String, String> values) {
+        ApplicantDTO dto = new ApplicantDTO();
+        dto.setFirstName(trim(values.get("firstName")));
+        dto.setLastName(trim(values.get("lastName")));
+        dto.setDegree(trim(values.get("degree")));
+        dto.setRelevantExperience(trim(values.get("relevantExperience")));
+        dto.setEmail(trim(values.get("email")));
+        dto.setProjectAppliedFor(trim(values.get("projectAppliedFor")));
+        return dto;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    /**
+     * Inserts one chunk in a single transaction. Events are published inside it, so
+     * listeners only see them once the rows are committed.
+     */
+    private void persist(List<Row> rows) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(CHUNK_SIZE);
+            List<Applicant> saved = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                Applicant applicant = applicantService.convertToEntity(row.applicant());
+                entityManager.persist(applicant);
+                saved.add(applicant);
+            }
+            entityManager.flush();
+            for (Applicant applicant : saved) {
+                eventPublisher.publishEvent(new ApplicantChangedEvent(ApplicantChangedEvent.Type.CREATED,
+                        applicant.getId(), null, applicantService.convertToDTO(applicant)));
+            }
+            entityManager.clear();
+        });
+    }
+
+    private final class Run {
+        final ApplicantFileFormat format;
+        final long started = System.nanoTime();
+        final List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        // Lower-cased email -> row that claimed it, to reject later duplicates within the file
+        final Map<String, Long> seenEmails = new HashMap<>();
+        final List<ApplicantImportErrorDTO> errors = new ArrayList<>();
+        long rows;
+        long imported;
+        long failed;
+
+        Run(ApplicantFileFormat format) {
+            this.format = format;
+        }
+
+        long nextRow() {
+            return ++rows;
+        }
+
+        void accept(long row, Map<String, String> values) {
+            ApplicantDTO dto = toApplicant(values);
+            String age = trim(values.get("age"));
+            if (age != null && !age.isEmpty()) {
+                try {
+                    dto.setAge(Integer.valueOf(age));
+                } catch (NumberFormatException e) {
+                    reject(row, dto.getEmail(), "Age must be a whole number");
+                    return;
+                }
+            }
+            Set<ConstraintViolation<ApplicantDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                reject(row, dto.getEmail(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (!ProjectConstants.isValidProject(dto.getProjectAppliedFor())) {
+                reject(row, dto.getEmail(), "Invalid project selection");
+                return;
+            }
+            Long firstRow = seenEmails.putIfAbsent(dto.getEmail().toLowerCase(Locale.ROOT), row);
+            if (firstRow != null) {
+                reject(row, dto.getEmail(), "Duplicate email (first used in row " + firstRow + ")");
+                return;
+            }
+            chunk.add(new Row(row, dto));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long row, String email, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ApplicantImportErrorDTO(row, email, message));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Set<String> taken = new HashSet<>();
+            for (String email : applicantRepository.findExistingEmails(chunk.stream().map(r -> r.applicant().getEmail()).toList())) {
+                taken.add(email.toLowerCase(Locale.ROOT));
+            }
+            List<Row> fresh = new ArrayList<>(chunk.size());
+            for (Row row : chunk) {
+                if (taken.contains(row.applicant().getEmail().toLowerCase(Locale.ROOT))) {
+                    reject(row.row(), row.applicant().getEmail(), "Email already exists");
+                } else {
+                    fresh.add(row);
+                }
+            }
+            chunk.clear();
+            if (fresh.isEmpty()) {
+                return;
+            }
+            try {
+                persist(fresh);
+                imported += fresh.size();
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                // Someone registered one of these emails since the check; retry the chunk row by row
+                for (Row row : fresh) {
+                    try {
+                        persist(List.of(row));
+                        imported++;
+                    } catch (DataIntegrityViolationException | PersistenceException rowFailure) {
+                        reject(row.row(), row.applicant().getEmail(), "Email already exists");
+                    }
+                }
+            }
+        }
+
+        ApplicantImportReportDTO report() {
+            long durationMs = (System.nanoTime() - started) / 1_000_000;
+            errors.sort((a, b) -> Long.compare(a.getRow(), b.getRow()));
+            return new ApplicantImportReportDTO(format.name().toLowerCase(Locale.ROOT), rows, imported, failed,
+                    durationMs, errors, failed > errors.size());
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.entity.Applicant;
+import cabido.backend.event.ApplicantChangedEvent;
+import cabido.backend.repository.ApplicantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over applicant name, email, degree and experience.
+ *
+ * <p>Whole terms are scored with BM25, weighting a hit in the name above one in the
+ * experience text. Partial words ("son" for "Johnson") are resolved against the
+ * term dictionary rather than the documents: a trigram map over distinct terms
+ * finds every vocabulary entry containing the fragment, and those terms' postings
+ * are then scored at a discount. Lookups therefore scale with the number of
+ * matching terms and postings, not with the number of applicants.
+ *
+ * <p>The index is loaded once at startup and then maintained from
+ * {@link ApplicantChangedEvent}s after each commit. A rebuild walks the table into a
+ * separate segment without holding the lock, so searches and updates carry on while
+ * it runs; ids changed meanwhile are re-applied when the new segment is swapped in.
+ */
+@Component
+public class ApplicantSearchIndex {
+
+    private static final Pattern TOKEN_SPLIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float EMAIL_WEIGHT = 2.0f;
+    private static final float DEGREE_WEIGHT = 1.5f;
+    private static final float EXPERIENCE_WEIGHT = 1.0f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Partial matches rank below exact ones; prefixes above infixes
+    private static final double PREFIX_DISCOUNT = 0.7;
+    private static final double INFIX_DISCOUNT = 0.4;
+    private static final int MAX_EXPANSIONS_PER_TOKEN = 200;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by lock
+    private Segment current = new Segment();
+    // While a rebuild runs: id -> latest snapshot (null once deleted) to re-apply at the swap
+    private Map<Long, ApplicantDTO> changedDuringRebuild;
+
+    private volatile boolean ready;
+
+    public record Hit(Long id, double score) {
+    }
+
+    public record Result(int total, List<Hit> hits) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // Walk the table by primary key in bounded batches rather than findAll()
+            Segment fresh = new Segment();
+            long lastId = 0;
+            List<Applicant> batch;
+            do {
+                batch = applicantRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE), Applicant.class);
+                for (Applicant a : batch) {
+                    fresh.add(a.getId(), a.getFirstName(), a.getLastName(), a.getEmail(), a.getDegree(), a.getRelevantExperience());
+                    lastId = a.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                // The walk may have read these rows before or after their change; the event's snapshot is current
+                changedDuringRebuild.forEach((id, snapshot) -> {
+                    fresh.remove(id);
+                    if (snapshot != null) {
+                        fresh.add(snapshot);
+                    }
+                });
+                current = fresh;
+                changedDuringRebuild = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.docLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicantChanged(ApplicantChangedEvent event) {
+        switch (event.type()) {
+            // Status is not indexed; summary snapshots from bulk updates lack indexed text
+            case STATUS_CHANGED -> {
+            }
+            case DELETED -> remove(event.id());
+            case CREATED, UPDATED -> index(event.after());
+        }
+    }
+
+    public void index(ApplicantDTO a) {
+        lock.writeLock().lock();
+        try {
+            current.remove(a.getId());
+            current.add(a);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(a.getId(), a);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            current.remove(id);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks applicants matching every query token (AND semantics) and returns one page
+     * of ids with scores, best first.
+     */
+    public Result search(String query, int page, int size) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty()) {
+            return new Result(0, List.of());
+        }
+
+        lock.readLock().lock();
+        Map<Long, Double> scores;
+        try {
+            Segment index = current;
+            int n = index.docLengths.size();
+            double avgLength = n == 0 ? 1 : index.totalLength / n;
+            scores = null;
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = scoreToken(index, token, n, avgLength);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Map<Long, Double> merged = new HashMap<>();
+                    for (Map.Entry<Long, Double> e : scores.entrySet()) {
+                        Double other = tokenScores.get(e.getKey());
+                        if (other != null) {
+                            merged.put(e.getKey(), e.getValue() + other);
+                        }
+                    }
+                    scores = merged;
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> ranked = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> ranked.add(new Hit(id, score)));
+        ranked.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::id, Comparator.reverseOrder()));
+
+        int from = Math.min(page * size, ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        return new Result(ranked.size(), new ArrayList<>(ranked.subList(from, to)));
+    }
+
+    // Best-scoring matching term per document for one query token
+    private static Map<Long, Double> scoreToken(Segment index, String token, int n, double avgLength) {
+        Map<Long, Double> result = new HashMap<>();
+        for (Map.Entry<String, Double> term : expand(index, token).entrySet()) {
+            Map<Long, Float> docs = index.postings.get(term.getKey());
+            if (docs == null) {
+                continue;
+            }
+            double df = docs.size();
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            for (Map.Entry<Long, Float> posting : docs.entrySet()) {
+                double tf = posting.getValue();
+                double norm = K1 * (1 - B + B * index.docLengths.get(posting.getKey()) / avgLength);
+                double score = term.getValue() * idf * (tf * (K1 + 1)) / (tf + norm);
+                result.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        return result;
+    }
+
+    // Query token -> matching dictionary terms with their discount factor
+    private static Map<String, Double> expand(Segment index, String token) {
+        Map<String, Double> terms = new LinkedHashMap<>();
+        if (index.postings.containsKey(token)) {
+            terms.put(token, 1.0);
+        }
+        for (String term : index.vocabulary.subSet(token, false, token + Character.MAX_VALUE, false)) {
+            if (terms.size() >= MAX_EXPANSIONS_PER_TOKEN) {
+                return terms;
+            }
+            terms.put(term, PREFIX_DISCOUNT * token.length() / term.length());
+        }
+        if (token.length() < 3) {
+            return terms;
+        }
+        // Infix: intersect the term sets of the token's trigrams, then verify
+        Set<String> candidates = null;
+        for (String gram : trigrams(token)) {
+            Set<String> withGram = index.trigramToTerms.get(gram);
+            if (withGram == null) {
+                return terms;
+            }
+            if (candidates == null || withGram.size() < candidates.size()) {
+                candidates = withGram;
+            }
+        }
+        for (String term : candidates) {
+            if (terms.size() >= MAX_EXPANSIONS_PER_TOKEN) {
+                break;
+            }
+            if (!terms.containsKey(term) && term.contains(token)) {
+                terms.put(term, INFIX_DISCOUNT * token.length() / term.length());
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> trigrams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            grams.add(term.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : TOKEN_SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * One generation of the index. Once published it is read under the read lock and
+     * changed under the write lock; a rebuild fills a fresh one privately first.
+     */
+    private static final class Segment {
+        // term -> (applicant id -> field-weighted term frequency)
+        final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        // applicant id -> terms it contributed, for removal on update/delete
+        final Map<Long, Set<String>> docTerms = new HashMap<>();
+        final Map<Long, Float> docLengths = new HashMap<>();
+        double totalLength;
+
+        // term dictionary for partial matching
+        final TreeSet<String> vocabulary = new TreeSet<>();
+        final Map<String, Set<String>> trigramToTerms = new HashMap<>();
+
+        void add(ApplicantDTO a) {
+            add(a.getId(), a.getFirstName(), a.getLastName(), a.getEmail(), a.getDegree(), a.getRelevantExperience());
+        }
+
+        void add(Long id, String firstName, String lastName, String email, String degree, String experience) {
+            Map<String, Float> tf = new HashMap<>();
+            float length = 0;
+            length += accumulate(tf, firstName, NAME_WEIGHT);
+            length += accumulate(tf, lastName, NAME_WEIGHT);
+            length += accumulate(tf, email, EMAIL_WEIGHT);
+            length += accumulate(tf, degree, DEGREE_WEIGHT);
+            length += accumulate(tf, experience, EXPERIENCE_WEIGHT);
+
+            for (Map.Entry<String, Float> e : tf.entrySet()) {
+                String term = e.getKey();
+                Map<Long, Float> docs = postings.get(term);
+                if (docs == null) {
+                    docs = new HashMap<>();
+                    postings.put(term, docs);
+                    addToDictionary(term);
+                }
+                docs.put(id, e.getValue());
+            }
+            docTerms.put(id, new HashSet<>(tf.keySet()));
+            docLengths.put(id, length);
+            totalLength += length;
+        }
+
+        void remove(Long id) {
+            Set<String> terms = docTerms.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Float> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(id);
+                    if (docs.isEmpty()) {
+                        postings.remove(term);
+                        removeFromDictionary(term);
+                    }
+                }
+            }
+            Float length = docLengths.remove(id);
+            if (length != null) {
+                totalLength -= length;
+            }
+        }
+
+        private static float accumulate(Map<String, Float> tf, String text, float weight) {
+            List<String> tokens = tokenize(text);
+            for (String token : tokens) {
+                tf.merge(token, weight, Float::sum);
+            }
+            return tokens.size() * weight;
+        }
+
+        private void addToDictionary(String term) {
+            vocabulary.add(term);
+            for (String gram : trigrams(term)) {
+                trigramToTerms.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+            }
+        }
+
+        private void removeFromDictionary(String term) {
+            vocabulary.remove(term);
+            for (String gram : trigrams(term)) {
+                Set<String> terms = trigramToTerms.get(gram);
+                if (terms != null) {
+                    terms.remove(term);
+                    if (terms.isEmpty()) {
+                        trigramToTerms.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -2,42 +2,229 @@ package cabido.backend.service;
 
 import cabido.backend.constants.ProjectConstants;
 import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.BatchStatusResponseDTO;
+import cabido.backend.dto.BatchStatusResultDTO;
+import cabido.backend.dto.ApplicantFilterDTO;
+import cabido.backend.dto.ApplicantPageDTO;
+import cabido.backend.dto.ApplicantQueryResultDTO;
+import cabido.backend.dto.ApplicantSearchPageDTO;
+import cabido.backend.dto.ApplicantStatsDTO;
+import cabido.backend.dto.ApplicantSuggestionDTO;
+import cabido.backend.dto.ApplicantSummaryDTO;
+import cabido.backend.dto.ResumeStorageFileDTO;
+import cabido.backend.dto.ResumeStorageStatsDTO;
 import cabido.backend.entity.Applicant;
+import cabido.backend.entity.OutboxEmail;
+import cabido.backend.event.ApplicantChangedEvent;
 import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.repository.ApplicantSpecifications;
+import cabido.backend.repository.ApplicantStatusView;
+import cabido.backend.repository.ResumeStorageTotalsView;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
 public class ApplicantService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    // Offset paging on /query degrades with depth; past this the cursor listing is the right tool
+    public static final int MAX_QUERY_OFFSET = 10_000;
+    private static final Set<String> QUERY_SORT_FIELDS = Set.of("createdAt", "age", "lastName", "status");
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    // Keeps IN lists well below driver/packet limits while still being few statements
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
     
     @Autowired
     private ApplicantRepository applicantRepository;
 
     @Autowired
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicantSearchIndex searchIndex;
+
+    @Autowired
+    private ApplicantSuggestionIndex suggestionIndex;
+
+    @Autowired
+    private CachedApplicantReader cachedReader;
+
+    @Autowired
+    private ApplicantStatsCounter statsCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
 
-    private final Path resumeStorageDir = Paths.get("uploads", "resumes").toAbsolutePath().normalize();
+    @Autowired
+    private ResumeUploadStage uploadStage;
+
+    // Distinguishes this process's versions from a previous run's, which started from zero too
+    private final String dataEpoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    /**
+     * Opaque tag that changes whenever any applicant is created, updated, re-statused or
+     * deleted; the read endpoints use it as their ETag. Read it before running the query
+     * it labels, so a concurrent change can only make the tag older than the data.
+     */
+    public String dataVersionTag() {
+        return dataEpoch + "-" + dataVersion.get();
+    }
+
+    /**
+     * Second bump once the change is committed and the read caches have evicted it. The
+     * first bump (in {@link #publish}) happens inside the transaction, so a read that
+     * raced the commit and saw the old rows is labelled with a version that is already
+     * stale by the time anyone revalidates against it. Imports only arrive here.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicantChanged(ApplicantChangedEvent event) {
+        dataVersion.incrementAndGet();
+    }
     
-    public List<ApplicantDTO> getAllApplicants() {
-        return applicantRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Keyset-paginated listing, newest first. The cursor is the (created_at, id) of the
+     * last row of the previous page, so every page is a bounded index range scan no
+     * matter how deep the client has paged.
+     */
+    public ApplicantPageDTO getApplicantsPage(String cursor, Integer limit, String status, String project) {
+        int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        Specification<Applicant> spec = Specification.allOf(
+                ApplicantSpecifications.hasStatus(status),
+                ApplicantSpecifications.hasProject(project));
+        if (cursor != null && !cursor.isBlank()) {
+            PageCursor position = PageCursor.decode(cursor);
+            spec = spec.and(ApplicantSpecifications.createdBefore(position.createdAt(), position.id()));
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<ApplicantSummaryDTO> items = applicantRepository.findSummaries(spec, KEYSET_SORT, pageSize + 1);
+        boolean hasMore = items.size() > pageSize;
+        String nextCursor = null;
+        if (hasMore) {
+            items = new ArrayList<>(items.subList(0, pageSize));
+            ApplicantSummaryDTO last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new ApplicantPageDTO(items, nextCursor, pageSize);
+    }
+
+    /**
+     * Filtered, sorted, offset-paged listing. Every filter is optional; each one maps
+     * onto a column covered by an index on {@link Applicant}, and the id is always
+     * appended as a tiebreaker so pages are stable.
+     */
+    public ApplicantQueryResultDTO queryApplicants(ApplicantFilterDTO filter, String sort, int page, Integer size) {
+        int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        if (filter.getMinAge() != null && filter.getMaxAge() != null && filter.getMinAge() > filter.getMaxAge()) {
+            throw new RuntimeException("minAge must not be greater than maxAge");
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new RuntimeException("createdFrom must be before createdTo");
+        }
+        if ((long) pageNumber * pageSize > MAX_QUERY_OFFSET) {
+            throw new RuntimeException("Page is too deep; narrow the filters or use the cursor listing");
+        }
+
+        Sort order = parseQuerySort(sort);
+        List<ApplicantSummaryDTO> items = applicantRepository.findSummaries(
+                filterSpecification(filter), order, pageNumber * pageSize, pageSize + 1);
+        boolean hasNext = items.size() > pageSize;
+        if (hasNext) {
+            items = new ArrayList<>(items.subList(0, pageSize));
+        }
+        Sort.Order primary = order.iterator().next();
+        return new ApplicantQueryResultDTO(items, pageNumber, pageSize, hasNext,
+                primary.getProperty() + "," + primary.getDirection().name().toLowerCase());
+    }
+
+    static Specification<Applicant> filterSpecification(ApplicantFilterDTO filter) {
+        return Specification.allOf(
+                ApplicantSpecifications.hasProject(filter.getProject()),
+                ApplicantSpecifications.hasStatus(filter.getStatus()),
+                ApplicantSpecifications.hasDegree(filter.getDegree()),
+                ApplicantSpecifications.ageBetween(filter.getMinAge(), filter.getMaxAge()),
+                ApplicantSpecifications.createdBetween(filter.getCreatedFrom(), filter.getCreatedTo()));
+    }
+
+    // "field" or "field,asc|desc"; only whitelisted fields so callers cannot sort on unindexed text
+    static Sort parseQuerySort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return KEYSET_SORT;
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!QUERY_SORT_FIELDS.contains(property)) {
+            throw new RuntimeException("Unsupported sort field: " + property + ". Use one of " + QUERY_SORT_FIELDS);
+        }
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new RuntimeException("Invalid sort direction: " + parts[1].trim()));
+        }
+        return Sort.by(new Sort.Order(direction, property), new Sort.Order(direction, "id"));
+    }
+
+    private record PageCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static PageCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new PageCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+            } catch (Exception e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
     }
     
     public Optional<ApplicantDTO> getApplicantById(Long id) {
-        return applicantRepository.findById(id)
-                .map(this::convertToDTO);
+        return Optional.ofNullable(cachedReader.findById(id))
+                .map(CachedApplicantReader.CachedApplicant::toDTO);
     }
     
     public ApplicantDTO createApplicant(ApplicantDTO applicantDTO) {
@@ -51,7 +238,9 @@ public class ApplicantService {
         
         Applicant applicant = convertToEntity(applicantDTO);
         Applicant savedApplicant = applicantRepository.save(applicant);
-        return convertToDTO(savedApplicant);
+        ApplicantDTO created = convertToDTO(savedApplicant);
+        publish(ApplicantChangedEvent.Type.CREATED, null, created);
+        return created;
     }
     
     public ApplicantDTO updateApplicant(Long id, ApplicantDTO applicantDTO) {
@@ -70,80 +259,228 @@ public class ApplicantService {
             throw new RuntimeException("Invalid project selection");
         }
         
-        Applicant applicant = convertToEntity(applicantDTO);
-        applicant.setId(id);
+        // Edits the loaded row, so the resume, timestamps and anything else not in the form stay as they are
+        Applicant applicant = existingApplicant.get();
+        ApplicantDTO before = convertToDTO(applicant);
+        copyEditableFields(applicantDTO, applicant);
         Applicant updatedApplicant = applicantRepository.save(applicant);
-        return convertToDTO(updatedApplicant);
+        ApplicantDTO updated = convertToDTO(updatedApplicant);
+        publish(ApplicantChangedEvent.Type.UPDATED, before, updated);
+        return updated;
+    }
+
+    /**
+     * Rejects a resume of the wrong type or size from its declared size and first block
+     * only, so a submission can be refused before the applicant row is created.
+     */
+    public void checkResume(MultipartFile resume) {
+        try (InputStream raw = resume.getInputStream()) {
+            uploadStage.open(raw, resume.getSize());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read resume: " + e.getMessage(), e);
+        }
     }
 
     public ApplicantDTO saveResume(Long id, MultipartFile resume) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             Optional<Applicant> existingApplicant = applicantRepository.findById(id);
             if (existingApplicant.isEmpty()) {
                 throw new RuntimeException("Applicant not found");
             }
 
-            Files.createDirectories(resumeStorageDir);
-
-            String originalFileName = resume.getOriginalFilename();
-            String safeFileName = (originalFileName == null || originalFileName.isBlank()) ? ("resume-" + id + ".pdf") : originalFileName.replaceAll("[^a-zA-Z0-9._-]", "_");
-            String storedFileName = id + "_" + safeFileName;
-            Path target = resumeStorageDir.resolve(storedFileName);
-            Files.copy(resume.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-
-            Applicant applicant = existingApplicant.get();
-            applicant.setResumeFileName(safeFileName);
-            applicant.setResumeContentType(resume.getContentType());
-            applicant.setResumePath(target.toString());
-            Applicant saved = applicantRepository.save(applicant);
-            return convertToDTO(saved);
+            ResumeUploadStage.ResumeType type;
+            ResumeStorage.StoredResume stored;
+            try (InputStream raw = resume.getInputStream()) {
+                ResumeUploadStage.Upload upload = uploadStage.open(raw, resume.getSize());
+                type = upload.type();
+                stored = resumeStorage.store(upload.content());
+            }
+            ApplicantDTO updated = attachResume(existingApplicant.get(), resume.getOriginalFilename(), type, stored);
+            outcome = "success";
+            return updated;
         } catch (Exception ex) {
             throw new RuntimeException("Failed to store resume: " + ex.getMessage(), ex);
+        } finally {
+            sample.stop(Timer.builder("app.resume.upload")
+                    .description("Time to store a resume and record it on the applicant")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Records stored resume content on the applicant, whichever way it was uploaded
+     * (in one request, or in chunks through ResumeUploadService).
+     */
+    ApplicantDTO attachResume(Applicant applicant, String originalFileName,
+                              ResumeUploadStage.ResumeType type, ResumeStorage.StoredResume stored) {
+        resumeBytes("upload").record(stored.size());
+        if (!stored.deduplicated()) {
+            DistributionSummary.builder("app.resume.storage.saved")
+                    .description("Bytes saved by compression per newly stored resume")
+                    .baseUnit("bytes")
+                    .register(meterRegistry)
+                    .record(stored.size() - stored.storedSize());
         }
+        String safeFileName = (originalFileName == null || originalFileName.isBlank())
+                ? ("resume-" + applicant.getId() + type.extension())
+                : originalFileName.replaceAll("[^a-zA-Z0-9._-]", "_");
+
+        ApplicantDTO before = convertToDTO(applicant);
+        applicant.setResumeFileName(safeFileName);
+        // What the bytes are, not what the client claimed
+        applicant.setResumeContentType(type.contentType());
+        applicant.setResumeKey(stored.key());
+        applicant.setResumeSize(stored.size());
+        applicant.setResumeStoredSize(stored.storedSize());
+        applicant.setResumeSha256(stored.sha256());
+        applicant.setResumeUploadedAt(LocalDateTime.now());
+        Applicant saved = applicantRepository.save(applicant);
+        ApplicantDTO updated = convertToDTO(saved);
+        publish(ApplicantChangedEvent.Type.UPDATED, before, updated);
+        return updated;
     }
 
-    public Resource loadResumeAsResource(Long id) {
+    /**
+     * The applicant's resume with the metadata recorded at upload (name, content type,
+     * size, upload time), so serving it needs no filesystem probing. The storage key
+     * is a content hash and doubles as a strong ETag. A compressed blob comes with its
+     * stored bytes as well, so they can be sent as they are to clients that accept gzip.
+     */
+    public ResumeDownload loadResume(Long id) {
+        CachedApplicantReader.CachedApplicant applicant = cachedReader.findById(id);
+        if (applicant == null) {
+            throw new RuntimeException("Applicant not found");
+        }
+        if (applicant.resumeKey() == null) {
+            throw new RuntimeException("Resume not uploaded for this applicant");
+        }
+        ResumeStorage.StoredContent stored = resumeStorage.loadStored(applicant.resumeKey());
+        if (stored == null) {
+            throw new RuntimeException("Resume file not found on server");
+        }
+        Resource resource = stored.decoded();
+        long size;
         try {
-            Optional<Applicant> existingApplicant = applicantRepository.findById(id);
-            if (existingApplicant.isEmpty()) {
-                throw new RuntimeException("Applicant not found");
-            }
-            Applicant applicant = existingApplicant.get();
-            if (applicant.getResumePath() == null) {
-                throw new RuntimeException("Resume not uploaded for this applicant");
-            }
-            Path filePath = Paths.get(applicant.getResumePath());
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new RuntimeException("Resume file not found on server");
-            }
-        } catch (Exception ex) {
-            throw new RuntimeException("Failed to load resume: " + ex.getMessage(), ex);
+            // Rows stored before sizes were recorded fall back to the file itself
+            size = applicant.resumeSize() != null ? applicant.resumeSize() : resource.contentLength();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load resume: " + e.getMessage(), e);
         }
+        String contentType = applicant.resumeContentType() != null ? applicant.resumeContentType() : "application/octet-stream";
+        return new ResumeDownload(resource, applicant.resumeKey(), applicant.resumeFileName(), contentType,
+                size, applicant.resumeUploadedAt(), stored);
+    }
+
+    /**
+     * @param resource the original content (decoded on the fly if stored compressed)
+     * @param stored   the bytes as stored, with their content coding
+     */
+    public record ResumeDownload(Resource resource, String key, String fileName, String contentType,
+                                 long size, LocalDateTime uploadedAt, ResumeStorage.StoredContent stored) {
+    }
+
+    /**
+     * Space saved by compressed resume storage: totals over every stored resume plus
+     * the {@code limit} files that save the most. Figures are per applicant, so a blob
+     * shared through deduplication counts once for each applicant referencing it.
+     */
+    public ResumeStorageStatsDTO getResumeStorageStats(int limit) {
+        ResumeStorageTotalsView totals = applicantRepository.sumResumeStorage();
+        long size = totals.getSize() != null ? totals.getSize() : 0;
+        long storedSize = totals.getStoredSize() != null ? totals.getStoredSize() : 0;
+        List<ResumeStorageFileDTO> files = applicantRepository.findResumeStorage(Limit.of(Math.max(1, Math.min(limit, 500)))).stream()
+                .map(file -> {
+                    long fileSize = file.getSize() != null ? file.getSize() : 0;
+                    long fileStoredSize = file.getStoredSize() != null ? file.getStoredSize() : fileSize;
+                    return new ResumeStorageFileDTO(file.getApplicantId(), file.getFileName(), file.getContentType(),
+                            fileSize, fileStoredSize, fileSize - fileStoredSize, savedPercent(fileSize, fileStoredSize));
+                })
+                .collect(Collectors.toList());
+        return new ResumeStorageStatsDTO(totals.getFiles(), size, storedSize, size - storedSize,
+                savedPercent(size, storedSize), files);
+    }
+
+    private static double savedPercent(long size, long storedSize) {
+        return size == 0 ? 0 : Math.round((size - storedSize) * 1000.0 / size) / 10.0;
+    }
+
+    // Transfer time is the http.server.requests timer for the download endpoint
+    public void recordResumeDownload(long bytes) {
+        resumeBytes("download").record(bytes);
     }
     
+    private DistributionSummary resumeBytes(String direction) {
+        return DistributionSummary.builder("app.resume.bytes")
+                .description("Resume sizes moved through the API")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
     public void deleteApplicant(Long id) {
-        if (!applicantRepository.existsById(id)) {
+        Optional<Applicant> existingApplicant = applicantRepository.findById(id);
+        if (existingApplicant.isEmpty()) {
             throw new RuntimeException("Applicant not found");
         }
-        applicantRepository.deleteById(id);
+        ApplicantDTO before = convertToDTO(existingApplicant.get());
+        applicantRepository.delete(existingApplicant.get());
+        publish(ApplicantChangedEvent.Type.DELETED, before, null);
     }
     
-    public List<ApplicantDTO> getApplicantsByProject(String project) {
-        return applicantRepository.findByProjectAppliedFor(project).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public List<ApplicantSummaryDTO> getApplicantsByProject(String project) {
+        return cachedReader.findByProject(project);
     }
     
-    public List<ApplicantDTO> searchApplicantsByName(String name) {
-        return applicantRepository.findByNameContaining(name).stream()
-                .map(this::convertToDTO)
+    // Served from in-memory counters; no query runs per request
+    public ApplicantStatsDTO getStats() {
+        return statsCounter.snapshot();
+    }
+
+    public List<ApplicantSuggestionDTO> suggestApplicants(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Ranked full-text search over name, email, degree and experience. Only the ids on
+     * the requested page are loaded from the database.
+     */
+    public ApplicantSearchPageDTO searchApplicants(String query, int page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query is required");
+        }
+        int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        if (!searchIndex.isReady()) {
+            // Index still loading right after startup: fall back to the name LIKE query, one page of it
+            if ((long) pageNumber * pageSize > MAX_QUERY_OFFSET) {
+                throw new RuntimeException("Page is too deep; narrow the search");
+            }
+            Specification<Applicant> byName = ApplicantSpecifications.nameContains(query.trim());
+            List<ApplicantSummaryDTO> items = applicantRepository.findSummaries(
+                    byName, KEYSET_SORT, pageNumber * pageSize, pageSize);
+            int total = (int) applicantRepository.count(byName);
+            return new ApplicantSearchPageDTO(query, total, pageNumber, pageSize, items);
+        }
+
+        ApplicantSearchIndex.Result result = searchIndex.search(query, pageNumber, pageSize);
+        List<Long> ids = result.hits().stream().map(ApplicantSearchIndex.Hit::id).collect(Collectors.toList());
+        Map<Long, ApplicantSummaryDTO> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            applicantRepository.findSummaries(ApplicantSpecifications.idIn(ids), Sort.unsorted(), 0)
+                    .forEach(a -> byId.put(a.getId(), a));
+        }
+        List<ApplicantSummaryDTO> items = ids.stream()
+                .map(byId::get)
+                .filter(a -> a != null)
                 .collect(Collectors.toList());
+        return new ApplicantSearchPageDTO(query, result.total(), pageNumber, pageSize, items);
     }
     
-    private ApplicantDTO convertToDTO(Applicant applicant) {
+    ApplicantDTO convertToDTO(Applicant applicant) {
         ApplicantDTO dto = new ApplicantDTO();
         dto.setId(applicant.getId());
         dto.setFirstName(applicant.getFirstName());
@@ -158,8 +495,13 @@ public class ApplicantService {
         return dto;
     }
     
-    private Applicant convertToEntity(ApplicantDTO dto) {
+    Applicant convertToEntity(ApplicantDTO dto) {
         Applicant applicant = new Applicant();
+        copyEditableFields(dto, applicant);
+        return applicant;
+    }
+
+    private static void copyEditableFields(ApplicantDTO dto, Applicant applicant) {
         applicant.setFirstName(dto.getFirstName());
         applicant.setLastName(dto.getLastName());
         applicant.setAge(dto.getAge());
@@ -170,68 +512,162 @@ public class ApplicantService {
         if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
             applicant.setStatus(dto.getStatus());
         }
-        return applicant;
     }
 
+    @Transactional
     public ApplicantDTO updateStatus(Long id, String status) {
         Optional<Applicant> existingApplicant = applicantRepository.findById(id);
         if (existingApplicant.isEmpty()) {
             throw new RuntimeException("Applicant not found");
         }
         Applicant a = existingApplicant.get();
+        ApplicantDTO before = convertToDTO(a);
         a.setStatus(status);
         Applicant saved = applicantRepository.save(a);
-        // Trigger email notifications if status is approved or rejected
-        try {
-            String fullName = (a.getFirstName() != null ? a.getFirstName() : "") +
-                    (a.getLastName() != null ? (" " + a.getLastName()) : "");
-            if ("approved".equalsIgnoreCase(status)) {
-                emailService.sendApprovalEmail(a.getEmail(), fullName.trim());
-            } else if ("rejected".equalsIgnoreCase(status) || "declined".equalsIgnoreCase(status)) {
-                emailService.sendDeclineEmail(a.getEmail(), fullName.trim());
-            }
-        } catch (Exception e) {
-            // Log and continue; we don't want to break the flow if email fails
-            System.err.println("Failed to send status email: " + e.getMessage());
+        // Queue email notifications if status is approved or rejected; sent after commit by the outbox
+        OutboxEmail.Template template = notificationTemplateFor(status);
+        if (template != null) {
+            emailOutboxService.enqueue(template, a.getEmail(), fullName(a));
         }
-        return convertToDTO(saved);
+        ApplicantDTO updated = convertToDTO(saved);
+        publish(ApplicantChangedEvent.Type.STATUS_CHANGED, before, updated);
+        return updated;
     }
 
+    @Transactional
     public ApplicantDTO approveApplicant(Long id) {
         Optional<Applicant> existingApplicant = applicantRepository.findById(id);
         if (existingApplicant.isEmpty()) {
             throw new RuntimeException("Applicant not found");
         }
         Applicant a = existingApplicant.get();
+        ApplicantDTO before = convertToDTO(a);
         a.setStatus("approved");
         Applicant saved = applicantRepository.save(a);
-        String fullName = (a.getFirstName() != null ? a.getFirstName() : "") +
-                (a.getLastName() != null ? (" " + a.getLastName()) : "");
-        try {
-            emailService.sendApprovalEmail(a.getEmail(), fullName.trim());
-        } catch (Exception e) {
-            // Do not fail the approval operation if email sending fails
-            System.err.println("Failed to send approval email: " + e.getMessage());
-        }
-        return convertToDTO(saved);
+        emailOutboxService.enqueue(OutboxEmail.Template.APPROVAL, a.getEmail(), fullName(a));
+        ApplicantDTO updated = convertToDTO(saved);
+        publish(ApplicantChangedEvent.Type.STATUS_CHANGED, before, updated);
+        return updated;
     }
 
+    @Transactional
     public ApplicantDTO declineApplicant(Long id) {
         Optional<Applicant> existingApplicant = applicantRepository.findById(id);
         if (existingApplicant.isEmpty()) {
             throw new RuntimeException("Applicant not found");
         }
         Applicant a = existingApplicant.get();
+        ApplicantDTO before = convertToDTO(a);
         a.setStatus("rejected");
         Applicant saved = applicantRepository.save(a);
-        String fullName = (a.getFirstName() != null ? a.getFirstName() : "") +
-                (a.getLastName() != null ? (" " + a.getLastName()) : "");
-        try {
-            emailService.sendDeclineEmail(a.getEmail(), fullName.trim());
-        } catch (Exception e) {
-            // Do not fail the decline operation if email sending fails
-            System.err.println("Failed to send decline email: " + e.getMessage());
+        emailOutboxService.enqueue(OutboxEmail.Template.DECLINE, a.getEmail(), fullName(a));
+        ApplicantDTO updated = convertToDTO(saved);
+        publish(ApplicantChangedEvent.Type.STATUS_CHANGED, before, updated);
+        return updated;
+    }
+
+    /**
+     * Applies one status to many applicants in a single transaction: one projection
+     * SELECT and one bulk UPDATE per chunk of ids, plus a batched outbox insert for the
+     * notifications. Applicants already in the target status are left untouched and
+     * are not notified again, so retrying a batch is safe.
+     */
+    @Transactional
+    public BatchStatusResponseDTO updateStatusBatch(List<Long> ids, String status) {
+        if (ids == null || ids.isEmpty()) {
+            throw new RuntimeException("At least one applicant id is required");
+        }
+        if (status == null || status.isBlank()) {
+            throw new RuntimeException("Status is required");
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("At most " + MAX_BATCH_SIZE + " applicants can be updated per request");
+        }
+        String target = status.trim();
+        OutboxEmail.Template template = notificationTemplateFor(target);
+
+        List<Long> idList = new ArrayList<>(uniqueIds);
+        Map<Long, ApplicantStatusView> found = new HashMap<>();
+        for (int from = 0; from < idList.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + BATCH_CHUNK_SIZE, idList.size()));
+            applicantRepository.findByIdIn(chunk).forEach(v -> found.put(v.getId(), v));
+        }
+
+        List<BatchStatusResultDTO> results = new ArrayList<>(idList.size());
+        List<Long> toUpdate = new ArrayList<>();
+        List<OutboxEmail> notifications = new ArrayList<>();
+        List<ApplicantChangedEvent> statusEvents = new ArrayList<>();
+        int unchanged = 0;
+        for (Long id : idList) {
+            ApplicantStatusView current = found.get(id);
+            if (current == null) {
+                results.add(new BatchStatusResultDTO(id, "not_found", null));
+            } else if (target.equals(current.getStatus())) {
+                results.add(new BatchStatusResultDTO(id, "unchanged", target));
+                unchanged++;
+            } else {
+                results.add(new BatchStatusResultDTO(id, "updated", target));
+                toUpdate.add(id);
+                ApplicantDTO before = convertToSummaryDTO(current);
+                ApplicantDTO after = convertToSummaryDTO(current);
+                after.setStatus(target);
+                statusEvents.add(new ApplicantChangedEvent(ApplicantChangedEvent.Type.STATUS_CHANGED, id, before, after));
+                if (template != null) {
+                    notifications.add(EmailOutboxService.newMessage(template, current.getEmail(),
+                            fullName(current.getFirstName(), current.getLastName())));
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < toUpdate.size(); from += BATCH_CHUNK_SIZE) {
+            applicantRepository.updateStatusByIdIn(toUpdate.subList(from, Math.min(from + BATCH_CHUNK_SIZE, toUpdate.size())), target, now);
         }
-        return convertToDTO(saved);
+        emailOutboxService.enqueueAll(notifications);
+        if (!statusEvents.isEmpty()) {
+            dataVersion.incrementAndGet();
+        }
+        statusEvents.forEach(eventPublisher::publishEvent);
+
+        int notFound = idList.size() - found.size();
+        return new BatchStatusResponseDTO(target, toUpdate.size(), unchanged, notFound, notifications.size(), results);
+    }
+
+    private void publish(ApplicantChangedEvent.Type type, ApplicantDTO before, ApplicantDTO after) {
+        Long id = (after != null) ? after.getId() : before.getId();
+        dataVersion.incrementAndGet();
+        eventPublisher.publishEvent(new ApplicantChangedEvent(type, id, before, after));
+    }
+
+    private ApplicantDTO convertToSummaryDTO(ApplicantStatusView view) {
+        ApplicantDTO dto = new ApplicantDTO();
+        dto.setId(view.getId());
+        dto.setFirstName(view.getFirstName());
+        dto.setLastName(view.getLastName());
+        dto.setEmail(view.getEmail());
+        dto.setProjectAppliedFor(view.getProjectAppliedFor());
+        dto.setStatus(view.getStatus());
+        return dto;
+    }
+
+    private OutboxEmail.Template notificationTemplateFor(String status) {
+        if ("approved".equalsIgnoreCase(status)) {
+            return OutboxEmail.Template.APPROVAL;
+        }
+        if ("rejected".equalsIgnoreCase(status) || "declined".equalsIgnoreCase(status)) {
+            return OutboxEmail.Template.DECLINE;
+        }
+        return null;
+    }
+
+    private String fullName(Applicant a) {
+        return fullName(a.getFirstName(), a.getLastName());
+    }
+
+    private String fullName(String firstName, String lastName) {
+        String fullName = (firstName != null ? firstName : "") +
+                (lastName != null ? (" " + lastName) : "");
+        return fullName.trim();
     }
 }
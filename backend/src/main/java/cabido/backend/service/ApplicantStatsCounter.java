@@ -0,0 +1,179 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantStatsDTO;
+import cabido.backend.event.ApplicantChangedEvent;
+import cabido.backend.repository.ApplicantCountView;
+import cabido.backend.repository.ApplicantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard counters kept in memory instead of aggregating the table per request.
+ *
+ * <p>Counts per (project, status) and per creation day are seeded by one GROUP BY
+ * when the application starts and then adjusted from {@link ApplicantChangedEvent}s.
+ * The seed runs as a lifecycle phase ahead of the web server and the scheduler, so
+ * no change can commit between the GROUP BY and the swap and be lost or counted twice.
+ * Each cell is a {@link LongAdder}, so concurrent submissions increment without
+ * contending on a shared lock, and a read only walks the handful of project/status
+ * cells and the last {@value #RECENT_DAYS} days. Reads are not an atomic snapshot
+ * across cells; a change landing mid-read shows up in the next one.
+ */
+@Component
+public class ApplicantStatsCounter implements SmartLifecycle {
+
+    public static final int RECENT_DAYS = 30;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    private record Cell(String project, String status) {
+    }
+
+    private volatile Map<Cell, LongAdder> cells = new ConcurrentHashMap<>();
+    private volatile Map<LocalDate, LongAdder> intakeByDay = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Well before the embedded web server (which starts near Integer.MAX_VALUE)
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Re-seeds from the table. Exact only while nothing writes applicants; at startup
+     * {@link #start()} guarantees that.
+     */
+    public void rebuild() {
+        Map<Cell, LongAdder> seededCells = new ConcurrentHashMap<>();
+        Map<LocalDate, LongAdder> seededDays = new ConcurrentHashMap<>();
+        LocalDate oldest = LocalDate.now().minusDays(RECENT_DAYS - 1);
+        for (ApplicantCountView row : applicantRepository.countByProjectStatusAndDay()) {
+            seededCells.computeIfAbsent(cell(row.getProject(), row.getStatus()), c -> new LongAdder()).add(row.getTotal());
+            if (row.getDay() != null && !row.getDay().isBefore(oldest)) {
+                seededDays.computeIfAbsent(row.getDay(), d -> new LongAdder()).add(row.getTotal());
+            }
+        }
+        cells = seededCells;
+        intakeByDay = seededDays;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicantChanged(ApplicantChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                add(event.after().getProjectAppliedFor(), event.after().getStatus(), 1);
+                addIntake(event.after().getCreatedAt(), 1);
+            }
+            case DELETED -> {
+                add(event.before().getProjectAppliedFor(), event.before().getStatus(), -1);
+                addIntake(event.before().getCreatedAt(), -1);
+            }
+            // Updates can move an applicant to another project as well as change its status
+            case UPDATED, STATUS_CHANGED -> move(event.before(), event.after());
+        }
+    }
+
+    public ApplicantStatsDTO snapshot() {
+        Map<String, Map<String, Long>> byProjectAndStatus = new TreeMap<>();
+        Map<String, Long> byProject = new TreeMap<>();
+        Map<String, Long> byStatus = new TreeMap<>();
+        long total = 0;
+        for (Map.Entry<Cell, LongAdder> e : cells.entrySet()) {
+            long count = e.getValue().sum();
+            if (count <= 0) {
+                continue;
+            }
+            Cell c = e.getKey();
+            byProjectAndStatus.computeIfAbsent(c.project(), p -> new TreeMap<>()).put(c.status(), count);
+            byProject.merge(c.project(), count, Long::sum);
+            byStatus.merge(c.status(), count, Long::sum);
+            total += count;
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<String, Long> daily = new LinkedHashMap<>();
+        long last7 = 0;
+        long last30 = 0;
+        for (int back = RECENT_DAYS - 1; back >= 0; back--) {
+            LocalDate day = today.minusDays(back);
+            LongAdder adder = intakeByDay.get(day);
+            long count = adder == null ? 0 : Math.max(0, adder.sum());
+            daily.put(day.toString(), count);
+            last30 += count;
+            if (back < 7) {
+                last7 += count;
+            }
+        }
+        // Drop days that have aged out of the window so the map stays bounded
+        intakeByDay.keySet().removeIf(day -> day.isBefore(today.minusDays(RECENT_DAYS - 1)));
+
+        return new ApplicantStatsDTO(total, byStatus, byProject, byProjectAndStatus,
+                daily.get(today.toString()), last7, last30, daily);
+    }
+
+    private void move(ApplicantDTO before, ApplicantDTO after) {
+        if (before == null || after == null) {
+            return;
+        }
+        Cell from = cell(before.getProjectAppliedFor(), before.getStatus());
+        // Bulk snapshots may omit the project; it cannot change there, so keep the old one
+        String project = after.getProjectAppliedFor() != null ? after.getProjectAppliedFor() : before.getProjectAppliedFor();
+        Cell to = cell(project, after.getStatus());
+        if (!from.equals(to)) {
+            adder(from).decrement();
+            adder(to).increment();
+        }
+    }
+
+    private void add(String project, String status, long delta) {
+        adder(cell(project, status)).add(delta);
+    }
+
+    private void addIntake(LocalDateTime createdAt, long delta) {
+        if (createdAt == null) {
+            return;
+        }
+        LocalDate day = createdAt.toLocalDate();
+        if (day.isBefore(LocalDate.now().minusDays(RECENT_DAYS - 1))) {
+            return;
+        }
+        intakeByDay.computeIfAbsent(day, d -> new LongAdder()).add(delta);
+    }
+
+    private LongAdder adder(Cell cell) {
+        return cells.computeIfAbsent(cell, c -> new LongAdder());
+    }
+
+    private static Cell cell(String project, String status) {
+        return new Cell(Objects.toString(project, "unknown"), Objects.toString(status, "pending"));
+    }
+}
@@ -0,0 +1,292 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantSuggestionDTO;
+import cabido.backend.event.ApplicantChangedEvent;
+import cabido.backend.repository.ApplicantNameView;
+import cabido.backend.repository.ApplicantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over applicant names and emails, answered entirely from memory.
+ *
+ * <p>Each applicant is reachable under "first last", "last first" and the email
+ * address. The trie stores children as parallel sorted arrays (char keys, child
+ * nodes) instead of per-node maps, which keeps it small, and a lookup walks one
+ * node per typed character and then depth-first collects at most {@code limit}
+ * ids, so latency depends on the prefix and the limit rather than on how many
+ * applicants exist.
+ */
+@Component
+public class ApplicantSuggestionIndex {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private record Entry(String displayName, List<String> keys) {
+    }
+
+    // Holds the write lock throughout so no change event can slip in between read and swap
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            entries.clear();
+            long lastId = 0;
+            List<ApplicantNameView> batch;
+            do {
+                batch = applicantRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE), ApplicantNameView.class);
+                for (ApplicantNameView v : batch) {
+                    Entry entry = entryFor(v.getFirstName(), v.getLastName(), v.getEmail());
+                    entries.put(v.getId(), entry);
+                    for (String key : entry.keys()) {
+                        insert(root, key, v.getId());
+                    }
+                    lastId = v.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicantChanged(ApplicantChangedEvent event) {
+        switch (event.type()) {
+            case STATUS_CHANGED -> {
+            }
+            case DELETED -> remove(event.id());
+            case CREATED, UPDATED -> put(event.after());
+        }
+    }
+
+    public void put(ApplicantDTO a) {
+        Entry entry = entryFor(a.getFirstName(), a.getLastName(), a.getEmail());
+        lock.writeLock().lock();
+        try {
+            removeLocked(a.getId());
+            entries.put(a.getId(), entry);
+            for (String key : entry.keys()) {
+                insert(root, key, a.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ApplicantSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            Set<Long> ids = new LinkedHashSet<>();
+            collect(node, ids, max);
+            List<ApplicantSuggestionDTO> result = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                result.add(new ApplicantSuggestionDTO(id, entries.get(id).displayName()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Depth-first in key order, stopping as soon as enough distinct ids are found
+    private static boolean collect(Node node, Set<Long> out, int max) {
+        for (long id : node.ids) {
+            out.add(id);
+            if (out.size() >= max) {
+                return true;
+            }
+        }
+        for (Node child : node.children) {
+            if (collect(child, out, max)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeLocked(Long id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous.keys()) {
+            delete(root, key, 0, id);
+        }
+    }
+
+    private static void insert(Node root, String key, long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        node.addId(id);
+    }
+
+    // Returns true when the node became empty and can be unlinked by its parent
+    private static boolean delete(Node node, String key, int depth, long id) {
+        if (depth == key.length()) {
+            node.removeId(id);
+        } else {
+            char c = key.charAt(depth);
+            Node child = node.child(c);
+            if (child != null && delete(child, key, depth + 1, id)) {
+                node.removeChild(c);
+            }
+        }
+        return node.ids.length == 0 && node.children.length == 0;
+    }
+
+    private static Entry entryFor(String firstName, String lastName, String email) {
+        String first = firstName == null ? "" : firstName.trim();
+        String last = lastName == null ? "" : lastName.trim();
+        String displayName = (first + " " + last).trim();
+        Set<String> keys = new LinkedHashSet<>();
+        addKey(keys, first + " " + last);
+        addKey(keys, last + " " + first);
+        addKey(keys, email);
+        return new Entry(displayName, List.copyOf(keys));
+    }
+
+    private static void addKey(Set<String> keys, String raw) {
+        String key = normalize(raw);
+        if (!key.isEmpty()) {
+            keys.add(key);
+        }
+    }
+
+    static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        return raw.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final long[] NO_IDS = new long[0];
+
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        long[] ids = NO_IDS;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node created = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = created;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        void addId(long id) {
+            for (long existing : ids) {
+                if (existing == id) {
+                    return;
+                }
+            }
+            long[] grown = Arrays.copyOf(ids, ids.length + 1);
+            grown[ids.length] = id;
+            ids = grown;
+        }
+
+        void removeId(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    long[] shrunk = new long[ids.length - 1];
+                    System.arraycopy(ids, 0, shrunk, 0, i);
+                    System.arraycopy(ids, i + 1, shrunk, i, ids.length - i - 1);
+                    ids = shrunk.length == 0 ? NO_IDS : shrunk;
+                    return;
+                }
+            }
+        }
+    }
+}
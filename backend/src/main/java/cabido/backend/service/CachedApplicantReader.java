@@ -0,0 +1,150 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantSummaryDTO;
+import cabido.backend.entity.Applicant;
+import cabido.backend.event.ApplicantChangedEvent;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.repository.ApplicantSpecifications;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of the hot ApplicantRepository lookups (detail view,
+ * per-project summary lists, resume downloads). Entries are evicted precisely from
+ * {@link ApplicantChangedEvent}: the applicant's own id plus the project lists it
+ * left and joined.
+ *
+ * <p>Entries are immutable snapshots, never managed entities. Each load notes the
+ * change version before querying and takes its entry back out if a change landed
+ * meanwhile, so a read that raced a commit cannot outlive that commit's eviction.
+ *
+ * <p>A project list is cached only while it has at most
+ * {@code app.cache.project-list-max-rows} rows, so an entry's size does not grow with
+ * the table. A larger project caches just that fact and is read from the repository
+ * every time.
+ */
+@Component
+public class CachedApplicantReader {
+
+    public static final String APPLICANT_BY_ID = "applicantById";
+    public static final String APPLICANTS_BY_PROJECT = "applicantsByProject";
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${app.cache.project-list-max-rows:500}")
+    private int projectListMaxRows;
+
+    // Bumped before every eviction; a load that saw an older value may hold stale rows
+    private final AtomicLong changeVersion = new AtomicLong();
+
+    public CachedApplicant findById(Long id) {
+        return read(APPLICANT_BY_ID, id, () -> applicantRepository.findById(id).map(CachedApplicant::from).orElse(null));
+    }
+
+    public List<ApplicantSummaryDTO> findByProject(String project) {
+        ProjectList cached = read(APPLICANTS_BY_PROJECT, project, () -> {
+            // One row past the cap tells a list that fits from one that does not
+            List<ApplicantSummaryDTO> rows = findProjectSummaries(project, projectListMaxRows + 1);
+            return rows.size() > projectListMaxRows ? ProjectList.TOO_LARGE : new ProjectList(List.copyOf(rows));
+        });
+        return cached.rows() != null ? cached.rows() : findProjectSummaries(project, 0);
+    }
+
+    private List<ApplicantSummaryDTO> findProjectSummaries(String project, int limit) {
+        return applicantRepository.findSummaries(ApplicantSpecifications.hasProject(project),
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")), limit);
+    }
+
+    // Runs before ApplicantService bumps the data version, so a fresh ETag never labels an evicted entry
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicantChanged(ApplicantChangedEvent event) {
+        changeVersion.incrementAndGet();
+        evict(APPLICANT_BY_ID, event.id());
+        evictProject(event.before());
+        evictProject(event.after());
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T read(String cacheName, Object key, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+        Cache.ValueWrapper hit = cache.get(key);
+        if (hit != null) {
+            return (T) hit.get();
+        }
+        long version = changeVersion.get();
+        T value = loader.get();
+        if (value != null) {
+            cache.put(key, value);
+            // A change since the load may have evicted before our put; undo it. The bump
+            // precedes the eviction, so one of the two always removes a stale entry.
+            if (changeVersion.get() != version) {
+                cache.evict(key);
+            }
+        }
+        return value;
+    }
+
+    private void evictProject(ApplicantDTO snapshot) {
+        if (snapshot != null && snapshot.getProjectAppliedFor() != null) {
+            evict(APPLICANTS_BY_PROJECT, snapshot.getProjectAppliedFor());
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * A project's whole summary list, or null rows for a project over the cap
+     */
+    record ProjectList(List<ApplicantSummaryDTO> rows) {
+        static final ProjectList TOO_LARGE = new ProjectList(null);
+    }
+
+    /**
+     * What the detail view and resume downloads need of an applicant row, copied out of
+     * the entity so cached state can be shared between requests.
+     */
+    public record CachedApplicant(Long id, String firstName, String lastName, Integer age, String degree,
+                                  String relevantExperience, String email, String projectAppliedFor,
+                                  String status, LocalDateTime createdAt, String resumeKey,
+                                  String resumeFileName, String resumeContentType, Long resumeSize,
+                                  LocalDateTime resumeUploadedAt) {
+
+        static CachedApplicant from(Applicant a) {
+            return new CachedApplicant(a.getId(), a.getFirstName(), a.getLastName(), a.getAge(), a.getDegree(),
+                    a.getRelevantExperience(), a.getEmail(), a.getProjectAppliedFor(), a.getStatus(),
+                    a.getCreatedAt(), a.getResumeKey(), a.getResumeFileName(), a.getResumeContentType(),
+                    a.getResumeSize(), a.getResumeUploadedAt());
+        }
+
+        public ApplicantDTO toDTO() {
+            return new ApplicantDTO(id, firstName, lastName, age, degree, relevantExperience, email,
+                    projectAppliedFor, status, createdAt);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package cabido.backend.service;
+
+import cabido.backend.entity.OutboxEmail;
+import cabido.backend.repository.OutboxEmailRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains the email outbox. A single poller claims due rows and hands them to the
+ * bounded emailOutboxExecutor; failed sends are rescheduled with exponential
+ * backoff and moved to DEAD once the attempt budget is spent.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final EnumSet<OutboxEmail.Status> CLAIMABLE = EnumSet.of(OutboxEmail.Status.PENDING, OutboxEmail.Status.SENDING);
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("emailOutboxExecutor")
+    private TaskExecutor executor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${app.email.outbox.workers:4}")
+    private int workers;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.initial-backoff-ms:5000}")
+    private long initialBackoffMs;
+
+    @Value("${app.email.outbox.max-backoff-ms:1800000}")
+    private long maxBackoffMs;
+
+    // Must comfortably exceed the SMTP connect + write timeouts
+    @Value("${app.email.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private Semaphore slots;
+
+    @PostConstruct
+    void init() {
+        // Worker threads plus their queue: the most we ever hand the executor at once.
+        // The virtual-thread executor blocks past its concurrency limit, so never exceed it.
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            slots = new Semaphore(pool.getMaxPoolSize() + pool.getQueueCapacity());
+        } else {
+            slots = new Semaphore(workers);
+        }
+    }
+
+    /**
+     * Requests an immediate drain on the worker pool, e.g. right after a commit.
+     * Cheap and non-blocking; a no-op if a drain is already running.
+     */
+    public void wakeUp() {
+        try {
+            taskScheduler.schedule(this::drain, Instant.now());
+        } catch (Exception ignored) {
+            // Scheduler shutting down: the next poll (or restart) picks the message up
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:2000}")
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+        try {
+            int free = slots.availablePermits();
+            if (free <= 0) {
+                return;
+            }
+            List<OutboxEmail> due = outboxEmailRepository.findDue(CLAIMABLE, LocalDateTime.now(), Limit.of(free));
+            for (OutboxEmail message : due) {
+                if (!slots.tryAcquire()) {
+                    break;
+                }
+                // Whole seconds, so the stored lease compares equal whatever the column's precision
+                LocalDateTime leaseUntil = LocalDateTime.now().plus(Duration.ofMillis(leaseMs)).truncatedTo(ChronoUnit.SECONDS);
+                if (outboxEmailRepository.claim(message.getId(), message.getStatus(), message.getNextAttemptAt(), leaseUntil) != 1) {
+                    slots.release();
+                    continue;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            deliver(message, leaseUntil);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                } catch (Exception e) {
+                    // Rejected (shutting down): the lease expires and the row is retried
+                    slots.release();
+                }
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void deliver(OutboxEmail message, LocalDateTime leaseUntil) {
+        try {
+            switch (message.getTemplate()) {
+                case APPROVAL -> emailService.sendApprovalEmail(message.getRecipient(), message.getRecipientName());
+                case DECLINE -> emailService.sendDeclineEmail(message.getRecipient(), message.getRecipientName());
+            }
+            markSent(message, leaseUntil);
+        } catch (Exception e) {
+            markFailed(message, leaseUntil, e);
+        }
+    }
+
+    // Both updates are compare-and-set on the lease, like claim: a worker whose lease ran
+    // out must not overwrite the outcome of the worker that re-claimed the row
+    private void markSent(OutboxEmail message, LocalDateTime leaseUntil) {
+        if (outboxEmailRepository.markSent(message.getId(), leaseUntil, LocalDateTime.now()) != 1) {
+            System.err.println("Email outbox message " + message.getId() + " sent after its lease expired; outcome left to the current holder");
+        }
+    }
+
+    private void markFailed(OutboxEmail message, LocalDateTime leaseUntil, Exception error) {
+        // The row is unchanged since the claim (the lease check below guarantees it), so its attempt count is current
+        int attempts = message.getAttempts() + 1;
+        String reason = error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+        String lastError = reason.length() > 1000 ? reason.substring(0, 1000) : reason;
+        boolean dead = attempts >= maxAttempts;
+        LocalDateTime now = LocalDateTime.now();
+        int updated = dead
+                ? outboxEmailRepository.markFailed(message.getId(), leaseUntil, OutboxEmail.Status.DEAD, lastError, leaseUntil, now)
+                : outboxEmailRepository.markFailed(message.getId(), leaseUntil, OutboxEmail.Status.PENDING, lastError,
+                        now.plus(Duration.ofMillis(backoffMillis(attempts))), now);
+        if (updated != 1) {
+            System.err.println("Email outbox message " + message.getId() + " failed after its lease expired; outcome left to the current holder");
+        } else if (dead) {
+            System.err.println("Email outbox message " + message.getId() + " dead-lettered after " + attempts + " attempts: " + reason);
+            meterRegistry.counter("app.email.outbox.dead", "template", message.getTemplate().name().toLowerCase()).increment();
+        }
+    }
+
+    /**
+     * initial * 2^(attempts-1), capped, with +/-20% jitter so a recovering SMTP server
+     * is not hit by every queued message at the same instant.
+     */
+    long backoffMillis(int attempts) {
+        double exp = initialBackoffMs * Math.pow(2, Math.max(0, attempts - 1));
+        double capped = Math.min(exp, maxBackoffMs);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (capped * jitter);
+    }
+}
@@ -0,0 +1,106 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.OutboxEmailDTO;
+import cabido.backend.entity.OutboxEmail;
+import cabido.backend.repository.OutboxEmailRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class EmailOutboxService {
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    /**
+     * Queues a notification. Joins the caller's transaction so the message is stored
+     * if and only if the status change that triggered it commits.
+     */
+    @Transactional
+    public OutboxEmail enqueue(OutboxEmail.Template template, String to, String recipientName) {
+        OutboxEmail saved = outboxEmailRepository.save(newMessage(template, to, recipientName));
+        wakeDispatcherAfterCommit();
+        return saved;
+    }
+
+    /**
+     * Queues many notifications at once; the inserts go out as JDBC batches.
+     */
+    @Transactional
+    public void enqueueAll(List<OutboxEmail> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        outboxEmailRepository.saveAll(messages);
+        wakeDispatcherAfterCommit();
+    }
+
+    public static OutboxEmail newMessage(OutboxEmail.Template template, String to, String recipientName) {
+        OutboxEmail message = new OutboxEmail();
+        message.setTemplate(template);
+        message.setRecipient(to);
+        message.setRecipientName(recipientName);
+        return message;
+    }
+
+    private void wakeDispatcherAfterCommit() {
+        // Nudge the dispatcher once the row is visible instead of waiting for the next poll
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wakeUp();
+                }
+            });
+        } else {
+            dispatcher.wakeUp();
+        }
+    }
+
+    public List<OutboxEmailDTO> getByStatus(OutboxEmail.Status status, int limit) {
+        return outboxEmailRepository.findByStatusOrderByUpdatedAtDesc(status, Limit.of(Math.max(1, Math.min(limit, 500)))).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Moves a dead-lettered message back to PENDING with a fresh attempt budget.
+     */
+    @Transactional
+    public OutboxEmailDTO retry(Long id) {
+        OutboxEmail message = outboxEmailRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Outbox message not found"));
+        if (message.getStatus() != OutboxEmail.Status.DEAD) {
+            throw new RuntimeException("Only dead-lettered messages can be retried");
+        }
+        message.setStatus(OutboxEmail.Status.PENDING);
+        message.setAttempts(0);
+        message.setNextAttemptAt(LocalDateTime.now());
+        return convertToDTO(outboxEmailRepository.save(message));
+    }
+
+    private OutboxEmailDTO convertToDTO(OutboxEmail message) {
+        OutboxEmailDTO dto = new OutboxEmailDTO();
+        dto.setId(message.getId());
+        dto.setRecipient(message.getRecipient());
+        dto.setTemplate(message.getTemplate().name());
+        dto.setStatus(message.getStatus().name());
+        dto.setAttempts(message.getAttempts());
+        dto.setNextAttemptAt(message.getNextAttemptAt());
+        dto.setLastError(message.getLastError());
+        dto.setCreatedAt(message.getCreatedAt());
+        dto.setSentAt(message.getSentAt());
+        return dto;
+    }
+}
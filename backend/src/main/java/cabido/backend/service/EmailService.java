@@ -1,5 +1,8 @@
 package cabido.backend.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +19,15 @@ public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private SmtpTransportPool transportPool;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.email.pool.enabled:true}")
+    private boolean poolEnabled;
+
     @Value("${spring.mail.username}")
     private String fromEmail;
 
@@ -30,23 +42,53 @@ public class EmailService {
 
     public void sendApprovalEmail(String to, String applicantName) {
         String subject = "Your Application Has Been Approved";
-        if (simpleMode) {
-            String text = buildApprovalText(applicantName);
-            sendPlainTextEmail(to, subject, text);
-        } else {
-            String html = buildApprovalHtml(applicantName);
-            sendHtmlEmail(to, subject, html);
-        }
+        timed("approval", () -> {
+            if (simpleMode) {
+                String text = buildApprovalText(applicantName);
+                sendPlainTextEmail(to, subject, text);
+            } else {
+                String html = buildApprovalHtml(applicantName);
+                sendHtmlEmail(to, subject, html);
+            }
+        });
     }
 
     public void sendDeclineEmail(String to, String applicantName) {
         String subject = "Regarding Your Application";
-        if (simpleMode) {
-            String text = buildDeclineText(applicantName);
-            sendPlainTextEmail(to, subject, text);
-        } else {
-            String html = buildDeclineHtml(applicantName);
-            sendHtmlEmail(to, subject, html);
+        timed("decline", () -> {
+            if (simpleMode) {
+                String text = buildDeclineText(applicantName);
+                sendPlainTextEmail(to, subject, text);
+            } else {
+                String html = buildDeclineHtml(applicantName);
+                sendHtmlEmail(to, subject, html);
+            }
+        });
+    }
+
+    // Render + SMTP time per template as app.email.send, plus app.email.failures by cause
+    private void timed(String template, Runnable send) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            send.run();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            Counter.builder("app.email.failures")
+                    .description("Email sends that threw, by template and exception")
+                    .tag("template", template)
+                    .tag("exception", cause.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.email.send")
+                    .description("Time to render and deliver one email")
+                    .tag("template", template)
+                    .tag("format", simpleMode ? "text" : "html")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
@@ -72,13 +114,21 @@ public class EmailService {
                 }
             }
 
-            mailSender.send(mimeMessage);
+            deliver(mimeMessage);
         } catch (Exception e) {
             throw new RuntimeException("Failed to send email: " + e.getMessage(), e);
         }
     }
 
-    private String emailBaseTemplate(String title, String messageBody) {
+    private void deliver(MimeMessage mimeMessage) throws Exception {
+        if (poolEnabled) {
+            transportPool.send(mimeMessage);
+        } else {
+            mailSender.send(mimeMessage);
+        }
+    }
+
+    String emailBaseTemplate(String title, String messageBody) {
         // Inline CSS for better compatibility across email clients
         String footerImgTag = (embedFooter && footerImagePath != null && !footerImagePath.isBlank())
                 ? "<img src=\"cid:footerImage\" alt=\"Footer\" style=\"max-width:100%; height:auto; display:block; margin-top:16px;\"/>"
@@ -100,7 +150,7 @@ public class EmailService {
                 "</div>";
     }
 
-    private String buildApprovalHtml(String applicantName) {
+    String buildApprovalHtml(String applicantName) {
         String body = "" +
                 "<p>Dear " + escape(applicantName) + ",</p>" +
                 "<p>Congratulations! We’re pleased to inform you that your application has been <strong>approved</strong>.</p>" +
@@ -150,13 +200,13 @@ public class EmailService {
             helper.setSubject(subject);
             helper.setText(textContent, false);
             helper.setReplyTo(fromEmail);
-            mailSender.send(mimeMessage);
+            deliver(mimeMessage);
         } catch (Exception e) {
             throw new RuntimeException("Failed to send plain text email: " + e.getMessage(), e);
         }
     }
 
-    private String escape(String input) {
+    String escape(String input) {
         if (input == null) return "";
         return input
                 .replace("&", "&amp;")
@@ -166,7 +216,7 @@ public class EmailService {
                 .replace("'", "&#39;");
     }
 
-    private String htmlToPlainText(String html) {
+    String htmlToPlainText(String html) {
         if (html == null) return "";
         // Basic conversion; enough for alternative text part
         return html
@@ -0,0 +1,36 @@
+package cabido.backend.service;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The original content of a gzip-compressed stored resource, inflated as it is read.
+ * Not a file, so consumers stream it rather than handing it to sendfile.
+ */
+class GzipDecodingResource extends AbstractResource {
+
+    private final Resource compressed;
+
+    GzipDecodingResource(Resource compressed) {
+        this.compressed = compressed;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new GZIPInputStream(compressed.getInputStream(), 64 * 1024);
+    }
+
+    @Override
+    public boolean exists() {
+        return compressed.exists();
+    }
+
+    @Override
+    public String getDescription() {
+        return "gzip-decoded " + compressed.getDescription();
+    }
+}
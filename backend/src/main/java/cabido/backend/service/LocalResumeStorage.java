@@ -0,0 +1,347 @@
+package cabido.backend.service;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed resume storage on a local (or shared) filesystem.
+ *
+ * <p>The key is the hex SHA-256 of the content and the file lives at
+ * {@code <root>/ab/cd/<key>}: two levels of 256 shards keep each directory small at
+ * millions of files. An upload is hashed while it streams into {@code <root>/tmp} and
+ * is then renamed into place atomically, so readers never see a partial file. When
+ * the key already exists the temp file is dropped and the stored copy reused. Paths
+ * depend only on content, so several instances can share one directory.
+ *
+ * <p>Chunked uploads are staged as {@code <root>/tmp/chunked-<id>.part}. Each chunk is
+ * written at its offset with {@link FileChannel#transferFrom} under an exclusive file
+ * lock, and the file's own length is the received offset, so nothing else has to be
+ * persisted to resume after a dropped connection or a restart. Committing hashes the
+ * part once and renames it into place: the content is written to disk a single time,
+ * however many chunks it arrived in (plus its compressed copy, see below).
+ *
+ * <p>With compression on, a new blob is gzipped at the fastest level before it is
+ * moved into place, and kept as {@code <key>.gz} when that saves at least
+ * {@code minSavingsPercent}. Already-compressed formats (DOCX is a zip, most PDFs
+ * deflate their streams) are abandoned as soon as the output overruns that budget,
+ * or a 256 KB sample shows it will, and stored as they are. The key stays the hash of the original bytes, so ETags,
+ * checksums and deduplication do not depend on how a blob is kept, and blobs written
+ * before compression was switched on (or after it was switched off) still load.
+ *
+ * <p>A blob's modification time is when it was last stored: reusing it for an
+ * identical upload touches it. {@link #keysStoredBefore} walks the shards by that
+ * time and {@link #delete} checks it again, so a blob that an upload has just reused,
+ * but whose key is not on the applicant yet, is not swept as unreferenced.
+ */
+public class LocalResumeStorage implements ResumeStorage {
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}");
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BLOCK = 64 * 1024;
+    private static final int SAMPLE_BYTES = 256 * 1024;
+
+    private final Path root;
+    private final Path staging;
+    private final boolean compress;
+    private final int minSavingsPercent;
+
+    public LocalResumeStorage(Path root) throws IOException {
+        this(root, false, 0);
+    }
+
+    public LocalResumeStorage(Path root, boolean compress, int minSavingsPercent) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.staging = this.root.resolve("tmp");
+        this.compress = compress;
+        this.minSavingsPercent = minSavingsPercent;
+        Files.createDirectories(staging);
+    }
+
+    @Override
+    public StoredResume store(InputStream content) throws IOException {
+        MessageDigest sha256 = sha256();
+        Path staged = Files.createTempFile(staging, "upload-", ".part");
+        try {
+            long size = Files.copy(new DigestInputStream(content, sha256), staged, StandardCopyOption.REPLACE_EXISTING);
+            return file(staged, size, HexFormat.of().formatHex(sha256.digest()));
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    @Override
+    public long partSize(String uploadId) throws IOException {
+        Path part = part(uploadId);
+        return Files.exists(part) ? Files.size(part) : 0;
+    }
+
+    @Override
+    public AppendedPart appendPart(String uploadId, long offset, InputStream chunk, long maxBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(part(uploadId), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Released when the channel closes
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            long size = channel.size();
+            if (lock == null || offset != size) {
+                return new AppendedPart(false, size);
+            }
+            ReadableByteChannel source = Channels.newChannel(chunk);
+            long position = offset;
+            long end = offset + maxBytes;
+            while (position < end) {
+                long received = channel.transferFrom(source, position, end - position);
+                if (received == 0) {
+                    break;
+                }
+                position += received;
+            }
+            if (position == end && chunk.read() != -1) {
+                channel.truncate(offset);
+                throw new RuntimeException("Chunk runs past the declared size of the upload");
+            }
+            return new AppendedPart(true, position);
+        }
+    }
+
+    @Override
+    public byte[] readPartHead(String uploadId, int length) throws IOException {
+        Path part = part(uploadId);
+        if (!Files.exists(part)) {
+            return new byte[0];
+        }
+        try (InputStream in = Files.newInputStream(part)) {
+            return in.readNBytes(length);
+        }
+    }
+
+    @Override
+    public StoredResume commitPart(String uploadId, String expectedSha256) throws IOException {
+        Path part = part(uploadId);
+        try {
+            MessageDigest sha256 = sha256();
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+                while (channel.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    sha256.update(buffer);
+                    buffer.clear();
+                }
+            }
+            String key = HexFormat.of().formatHex(sha256.digest());
+            if (expectedSha256 != null && !key.equalsIgnoreCase(expectedSha256)) {
+                throw new RuntimeException("Checksum mismatch: received content hashes to " + key);
+            }
+            return file(part, size, key);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    @Override
+    public void discardPart(String uploadId) throws IOException {
+        Files.deleteIfExists(part(uploadId));
+    }
+
+    @Override
+    public Stream<String> keysStoredBefore(Instant cutoff) throws IOException {
+        // Blobs sit at ab/cd/<key>, so nothing deeper is walked
+        return Files.find(root, 3, (file, attributes) -> attributes.isRegularFile()
+                        && attributes.lastModifiedTime().toInstant().isBefore(cutoff))
+                .map(this::key)
+                .filter(Objects::nonNull)
+                .distinct();
+    }
+
+    @Override
+    public boolean delete(String key, Instant storedBefore) throws IOException {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return false;
+        }
+        boolean deleted = false;
+        for (Path file : new Path[]{path(key), compressedPath(key)}) {
+            try {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(storedBefore)) {
+                    deleted |= Files.deleteIfExists(file);
+                }
+            } catch (NoSuchFileException e) {
+                // Not kept in this form
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public StoredContent loadStored(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return null;
+        }
+        Path file = path(key);
+        if (Files.isRegularFile(file)) {
+            return new StoredContent(new FileSystemResource(file), null);
+        }
+        Path compressed = compressedPath(key);
+        return Files.isRegularFile(compressed) ? new StoredContent(new FileSystemResource(compressed), GZIP) : null;
+    }
+
+    // Moves a hashed staging file to its content address, or reuses the stored copy
+    private StoredResume file(Path staged, long size, String key) throws IOException {
+        Path existing = existing(key);
+        // A blob swept away since the check is stored afresh below
+        if (existing != null && touch(existing)) {
+            return new StoredResume(key, size, key, true, Files.size(existing));
+        }
+        Path packed = compress ? compress(staged, size) : null;
+        Path source = packed != null ? packed : staged;
+        Path target = packed != null ? compressedPath(key) : path(key);
+        try {
+            long storedSize = Files.size(source);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Another request stored the same bytes first
+                if (touch(target)) {
+                    return new StoredResume(key, size, key, true, Files.size(target));
+                }
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredResume(key, size, key, false, storedSize);
+        } finally {
+            if (packed != null) {
+                Files.deleteIfExists(packed);
+            }
+        }
+    }
+
+    private Path existing(String key) {
+        Path file = path(key);
+        if (Files.exists(file)) {
+            return file;
+        }
+        Path compressed = compressedPath(key);
+        return Files.exists(compressed) ? compressed : null;
+    }
+
+    // Marks a blob as stored now; false when it no longer exists
+    private static boolean touch(Path file) throws IOException {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // The key a blob file is stored under, or null for anything else in the tree
+    private String key(Path file) {
+        String name = file.getFileName().toString();
+        String key = name.endsWith(GZIP_SUFFIX) ? name.substring(0, name.length() - GZIP_SUFFIX.length()) : name;
+        return KEY.matcher(key).matches() && file.equals(name.equals(key) ? path(key) : compressedPath(key)) ? key : null;
+    }
+
+    /**
+     * Gzips a staged file next to it, or returns null (leaving nothing behind) once the
+     * output passes what the minimum saving allows, overall or over the first
+     * {@value #SAMPLE_BYTES} bytes.
+     */
+    private Path compress(Path staged, long size) throws IOException {
+        long budget = size * (100 - minSavingsPercent) / 100;
+        Path packed = Files.createTempFile(staging, "compress-", GZIP_SUFFIX);
+        boolean kept = false;
+        try (InputStream in = Files.newInputStream(staged);
+             FastGzipOutputStream out = new FastGzipOutputStream(Files.newOutputStream(packed))) {
+            byte[] buffer = new byte[BLOCK];
+            long read = 0;
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+                read += n;
+                if (out.compressedBytes() > budget) {
+                    return null;
+                }
+                // Scanned pages and embedded images show up as a poor ratio early on
+                if (read >= SAMPLE_BYTES && out.compressedBytes() > read * (100 - minSavingsPercent) / 100) {
+                    return null;
+                }
+            }
+            out.finish();
+            kept = Files.size(packed) <= budget;
+            return kept ? packed : null;
+        } finally {
+            if (!kept) {
+                Files.deleteIfExists(packed);
+            }
+        }
+    }
+
+    Path part(String uploadId) {
+        if (uploadId == null || !UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new IllegalArgumentException("Invalid upload id");
+        }
+        return staging.resolve("chunked-" + uploadId + ".part");
+    }
+
+    Path path(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    Path compressedPath(String key) {
+        return path(key).resolveSibling(key + GZIP_SUFFIX);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Speed over ratio: resumes are written once and read rarely, but uploads wait on this
+    private static final class FastGzipOutputStream extends GZIPOutputStream {
+
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BLOCK);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+
+        long compressedBytes() {
+            return def.getBytesWritten();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package cabido.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-endpoint request budgets for the expensive public endpoints: admin login
+ * (BCrypt), applicant submission and resume upload. Each endpoint has its own
+ * per-IP bucket; login additionally has a per-account bucket so one address cannot
+ * be brute-forced from many IPs.
+ */
+@Service
+public class RateLimitService {
+
+    public enum Endpoint {
+        LOGIN,
+        SUBMISSION,
+        RESUME_UPLOAD
+    }
+
+    private static final TokenBucketLimiter.Decision ALLOWED = new TokenBucketLimiter.Decision(true, 0);
+
+    @Value("${app.ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ratelimit.login.ip.capacity:10}")
+    private long loginIpCapacity;
+
+    @Value("${app.ratelimit.login.ip.refill-per-minute:10}")
+    private double loginIpRefill;
+
+    @Value("${app.ratelimit.login.account.capacity:5}")
+    private long loginAccountCapacity;
+
+    @Value("${app.ratelimit.login.account.refill-per-minute:5}")
+    private double loginAccountRefill;
+
+    @Value("${app.ratelimit.submission.ip.capacity:5}")
+    private long submissionIpCapacity;
+
+    @Value("${app.ratelimit.submission.ip.refill-per-minute:5}")
+    private double submissionIpRefill;
+
+    @Value("${app.ratelimit.upload.ip.capacity:10}")
+    private long uploadIpCapacity;
+
+    @Value("${app.ratelimit.upload.ip.refill-per-minute:10}")
+    private double uploadIpRefill;
+
+    private final Map<Endpoint, TokenBucketLimiter> byIp = new EnumMap<>(Endpoint.class);
+    private TokenBucketLimiter loginByAccount;
+
+    @PostConstruct
+    void init() {
+        byIp.put(Endpoint.LOGIN, new TokenBucketLimiter(loginIpCapacity, loginIpRefill));
+        byIp.put(Endpoint.SUBMISSION, new TokenBucketLimiter(submissionIpCapacity, submissionIpRefill));
+        byIp.put(Endpoint.RESUME_UPLOAD, new TokenBucketLimiter(uploadIpCapacity, uploadIpRefill));
+        loginByAccount = new TokenBucketLimiter(loginAccountCapacity, loginAccountRefill);
+    }
+
+    public TokenBucketLimiter.Decision checkClient(Endpoint endpoint, String clientIp) {
+        if (!enabled) {
+            return ALLOWED;
+        }
+        return byIp.get(endpoint).tryAcquire(clientIp);
+    }
+
+    public TokenBucketLimiter.Decision checkLoginAccount(String email) {
+        if (!enabled || email == null) {
+            return ALLOWED;
+        }
+        return loginByAccount.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    @Scheduled(fixedDelayString = "${app.ratelimit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        byIp.values().forEach(TokenBucketLimiter::evictIdle);
+        loginByAccount.evictIdle();
+    }
+}
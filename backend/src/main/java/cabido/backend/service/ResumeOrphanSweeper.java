@@ -0,0 +1,83 @@
+package cabido.backend.service;
+
+import cabido.backend.repository.ApplicantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Deletes stored resumes that no applicant records any more: left behind when an
+ * applicant is deleted or uploads a different resume. Storage is deduplicated, so a
+ * blob can only go once no row at all has its key, which is checked in batches
+ * against applicants.resume_key.
+ *
+ * <p>Only blobs not stored or reused for {@code app.resume.storage.orphan-grace-minutes}
+ * are considered. An upload writes its blob before the key reaches the applicant row,
+ * and the grace period keeps the sweep from seeing such a blob as unreferenced.
+ */
+@Service
+public class ResumeOrphanSweeper {
+
+    private static final int BATCH = 500;
+
+    @Value("${app.resume.storage.orphan-grace-minutes:1440}")
+    private long graceMinutes;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Scheduled(fixedDelayString = "${app.resume.storage.orphan-sweep-interval-ms:21600000}")
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(graceMinutes));
+        int deleted = 0;
+        try (Stream<String> keys = resumeStorage.keysStoredBefore(cutoff)) {
+            List<String> batch = new ArrayList<>(BATCH);
+            Iterator<String> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH || !iterator.hasNext()) {
+                    deleted += deleteUnreferenced(batch, cutoff);
+                    batch.clear();
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Orphaned resume sweep stopped: " + e.getMessage());
+        }
+        if (deleted > 0) {
+            System.out.println("Deleted " + deleted + " orphaned resume file(s)");
+        }
+    }
+
+    private int deleteUnreferenced(List<String> keys, Instant cutoff) {
+        Set<String> referenced = new HashSet<>(applicantRepository.findReferencedResumeKeys(keys));
+        int deleted = 0;
+        for (String key : keys) {
+            if (referenced.contains(key)) {
+                continue;
+            }
+            try {
+                if (resumeStorage.delete(key, cutoff)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to delete orphaned resume " + key + ": " + e.getMessage());
+            }
+        }
+        return deleted;
+    }
+}
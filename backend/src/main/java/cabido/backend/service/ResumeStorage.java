@@ -0,0 +1,126 @@
+package cabido.backend.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * Where resume bytes live. An applicant only records the key returned by
+ * {@link #store} or {@link #commitPart}; how keys map onto files or objects is up to
+ * the implementation, chosen in ResumeStorageConfig.
+ *
+ * <p>Chunked uploads are staged as a "part" named by the upload id, appended to
+ * chunk by chunk and committed once complete. Parts survive restarts; the caller
+ * tracks which uploads are still alive and discards the rest.
+ *
+ * <p>Stored content is never deleted on its own account, since with deduplication a
+ * key may back several applicants. ResumeOrphanSweeper lists keys that have not been
+ * stored or reused for a while and deletes the ones no applicant records.
+ */
+public interface ResumeStorage {
+
+    /**
+     * @param key          opaque storage key to save on the applicant
+     * @param size         bytes read from the upload
+     * @param sha256       hex SHA-256 of those bytes
+     * @param deduplicated true when identical content was already stored and reused
+     * @param storedSize   bytes the content takes in storage, less than size when
+     *                     it is kept compressed
+     */
+    record StoredResume(String key, long size, String sha256, boolean deduplicated, long storedSize) {
+    }
+
+    /**
+     * Content as it is kept in storage.
+     *
+     * @param resource the stored bytes
+     * @param encoding HTTP content coding of those bytes ("gzip"), or null when they
+     *                 are the original content
+     */
+    record StoredContent(Resource resource, String encoding) {
+
+        /**
+         * The original content, decompressed on the fly when it is stored encoded.
+         */
+        public Resource decoded() {
+            return encoding == null ? resource : new GzipDecodingResource(resource);
+        }
+    }
+
+    /**
+     * @param accepted false when nothing was written: the chunk did not start at the
+     *                 part's current size, or another request is appending to it
+     * @param size     bytes in the part after the call
+     */
+    record AppendedPart(boolean accepted, long size) {
+    }
+
+    /**
+     * Reads the stream to the end and stores its content, measuring size and SHA-256
+     * in the same pass. Storing the same bytes twice returns the same key and keeps a
+     * single copy. The caller closes the stream.
+     */
+    StoredResume store(InputStream content) throws IOException;
+
+    /**
+     * The stored bytes under a key, without decoding them, or null when there are none
+     * (including keys this storage could never have produced). Lets a download pass
+     * compressed content through to a client that accepts its encoding.
+     */
+    StoredContent loadStored(String key);
+
+    /**
+     * The content stored under a key, or null when there is none.
+     */
+    default Resource load(String key) {
+        StoredContent stored = loadStored(key);
+        return stored == null ? null : stored.decoded();
+    }
+
+    /**
+     * Bytes received so far for a chunked upload, 0 before the first chunk.
+     */
+    long partSize(String uploadId) throws IOException;
+
+    /**
+     * Appends a chunk to a staged upload. The chunk is taken only when {@code offset}
+     * equals the current part size, and may hold at most {@code maxBytes}; a longer
+     * chunk is rejected with a RuntimeException and the part left as it was. When the
+     * stream fails midway, what already arrived is kept and the client resumes from
+     * {@link #partSize}. The caller closes the stream.
+     */
+    AppendedPart appendPart(String uploadId, long offset, InputStream chunk, long maxBytes) throws IOException;
+
+    /**
+     * Up to {@code length} leading bytes of a staged upload, to identify its type.
+     */
+    byte[] readPartHead(String uploadId, int length) throws IOException;
+
+    /**
+     * Stores a fully received upload exactly as {@link #store} would and removes the
+     * part. When the content does not hash to {@code expectedSha256} the part is
+     * discarded and a RuntimeException thrown.
+     */
+    StoredResume commitPart(String uploadId, String expectedSha256) throws IOException;
+
+    /**
+     * Drops a staged upload; unknown ids are ignored.
+     */
+    void discardPart(String uploadId) throws IOException;
+
+    /**
+     * Keys whose content was last stored, or reused by {@link #store}, before the
+     * cutoff. The caller closes the stream.
+     */
+    Stream<String> keysStoredBefore(Instant cutoff) throws IOException;
+
+    /**
+     * Deletes the content under a key in whatever form it is kept, unless it was
+     * stored or reused again at or after {@code storedBefore}. Returns false when
+     * nothing was deleted.
+     */
+    boolean delete(String key, Instant storedBefore) throws IOException;
+}
@@ -0,0 +1,216 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ResumeUploadSessionDTO;
+import cabido.backend.entity.Applicant;
+import cabido.backend.entity.ResumeUploadSession;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.repository.ResumeUploadSessionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Resumable, chunked resume uploads for files too large to send reliably in one
+ * request.
+ *
+ * <p>{@link #start} records the file name, total size and (optionally) SHA-256 and
+ * returns an upload id. {@link #append} takes the bytes at an offset, which has to
+ * be the number of bytes received so far; a client that lost track after a dropped
+ * connection asks {@link #status} and carries on from there. {@link #complete}
+ * checks size, type and checksum and attaches the file to the applicant. Chunks are
+ * appended straight into the storage's staged part, which is renamed into place on
+ * completion, so the content is written to disk once.
+ *
+ * <p>Sessions that receive no chunk for {@code app.resume.upload.session-ttl-minutes}
+ * are purged together with their bytes.
+ */
+@Service
+public class ResumeUploadService {
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-fA-F]{64}");
+    private static final int PURGE_BATCH = 100;
+
+    /**
+     * @param accepted false when the chunk was not taken because it did not start
+     *                 at the received offset (or raced another chunk); the session
+     *                 says where to continue
+     */
+    public record Chunk(boolean accepted, ResumeUploadSessionDTO session) {
+    }
+
+    @Value("${app.resume.upload.session-ttl-minutes:1440}")
+    private long sessionTtlMinutes;
+
+    @Autowired
+    private ResumeUploadSessionRepository sessionRepository;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private ApplicantService applicantService;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Autowired
+    private ResumeUploadStage uploadStage;
+
+    public ResumeUploadSessionDTO start(Long applicantId, String fileName, Long size, String sha256) {
+        if (!applicantRepository.existsById(applicantId)) {
+            throw new RuntimeException("Applicant not found");
+        }
+        if (size == null || size <= 0) {
+            throw new RuntimeException("Upload size is required");
+        }
+        if (size > uploadStage.maxBytes()) {
+            throw new RuntimeException(uploadStage.tooLarge());
+        }
+        String expected = checksum(sha256);
+        LocalDateTime now = LocalDateTime.now();
+        ResumeUploadSession session = new ResumeUploadSession(UUID.randomUUID().toString(), applicantId,
+                fileName == null ? "" : fileName, size, expected, now, now);
+        sessionRepository.save(session);
+        return toDTO(session, 0);
+    }
+
+    public ResumeUploadSessionDTO status(Long applicantId, String uploadId) {
+        ResumeUploadSession session = find(applicantId, uploadId);
+        try {
+            return toDTO(session, resumeStorage.partSize(uploadId));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read upload: " + e.getMessage(), e);
+        }
+    }
+
+    public Chunk append(Long applicantId, String uploadId, long offset, InputStream chunk) {
+        ResumeUploadSession session = find(applicantId, uploadId);
+        if (offset < 0 || offset > session.getTotalSize()) {
+            throw new RuntimeException("Offset is outside the upload");
+        }
+        try {
+            InputStream content = chunk;
+            if (offset == 0) {
+                // Turn away a file that is not a resume at the first chunk, not the last
+                byte[] head = chunk.readNBytes(8);
+                if (!ResumeUploadStage.hasResumeMagic(head)) {
+                    throw new RuntimeException(ResumeUploadStage.UNSUPPORTED);
+                }
+                content = new SequenceInputStream(new ByteArrayInputStream(head), chunk);
+            }
+            ResumeStorage.AppendedPart part = resumeStorage.appendPart(uploadId, offset, content, session.getTotalSize() - offset);
+            if (part.accepted()) {
+                session.setUpdatedAt(LocalDateTime.now());
+                sessionRepository.save(session);
+            }
+            return new Chunk(part.accepted(), toDTO(session, part.size()));
+        } catch (IOException e) {
+            // What arrived before the failure is kept; the client resumes from status()
+            throw new RuntimeException("Chunk interrupted: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Files the upload and records it on the applicant. {@code sha256} may be left
+     * out when it was given at start; one of the two is required.
+     */
+    public ApplicantDTO complete(Long applicantId, String uploadId, String sha256) {
+        ResumeUploadSession session = find(applicantId, uploadId);
+        String expected = sha256 != null && !sha256.isBlank() ? checksum(sha256) : session.getSha256();
+        if (expected == null) {
+            throw new RuntimeException("sha256 of the whole file is required to complete an upload");
+        }
+        Optional<Applicant> applicant = applicantRepository.findById(applicantId);
+        if (applicant.isEmpty()) {
+            throw new RuntimeException("Applicant not found");
+        }
+        try {
+            long received = resumeStorage.partSize(uploadId);
+            if (received != session.getTotalSize()) {
+                throw new RuntimeException("Upload incomplete: " + received + " of " + session.getTotalSize() + " bytes received");
+            }
+            ResumeUploadStage.ResumeType type = ResumeUploadStage.detect(
+                    resumeStorage.readPartHead(uploadId, ResumeUploadStage.SNIFF_BYTES));
+            if (type == null) {
+                discard(session);
+                throw new RuntimeException(ResumeUploadStage.UNSUPPORTED);
+            }
+            ResumeStorage.StoredResume stored;
+            try {
+                stored = resumeStorage.commitPart(uploadId, expected);
+            } finally {
+                // The part is gone whether it was filed or failed its checksum
+                sessionRepository.delete(session);
+            }
+            return applicantService.attachResume(applicant.get(), session.getFileName(), type, stored);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store resume: " + e.getMessage(), e);
+        }
+    }
+
+    public void abort(Long applicantId, String uploadId) {
+        try {
+            discard(find(applicantId, uploadId));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to discard upload: " + e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.resume.upload.cleanup-interval-ms:600000}")
+    public void purgeAbandoned() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(sessionTtlMinutes);
+        List<ResumeUploadSession> idle = sessionRepository.findByUpdatedAtBefore(cutoff, Limit.of(PURGE_BATCH));
+        int purged = 0;
+        for (ResumeUploadSession session : idle) {
+            try {
+                discard(session);
+                purged++;
+            } catch (IOException e) {
+                System.err.println("Failed to purge resume upload " + session.getId() + ": " + e.getMessage());
+            }
+        }
+        if (purged > 0) {
+            System.out.println("Purged " + purged + " abandoned resume upload(s)");
+        }
+    }
+
+    private void discard(ResumeUploadSession session) throws IOException {
+        resumeStorage.discardPart(session.getId());
+        sessionRepository.delete(session);
+    }
+
+    private ResumeUploadSession find(Long applicantId, String uploadId) {
+        return sessionRepository.findById(uploadId)
+                .filter(session -> session.getApplicantId().equals(applicantId))
+                .orElseThrow(() -> new RuntimeException("Upload not found"));
+    }
+
+    private static String checksum(String sha256) {
+        if (sha256 == null || sha256.isBlank()) {
+            return null;
+        }
+        if (!SHA256.matcher(sha256).matches()) {
+            throw new RuntimeException("sha256 must be 64 hex characters");
+        }
+        return sha256.toLowerCase(Locale.ROOT);
+    }
+
+    private ResumeUploadSessionDTO toDTO(ResumeUploadSession session, long offset) {
+        return new ResumeUploadSessionDTO(session.getId(), session.getApplicantId(), session.getFileName(),
+                session.getTotalSize(), offset, session.getUpdatedAt().plusMinutes(sessionTtlMinutes));
+    }
+}
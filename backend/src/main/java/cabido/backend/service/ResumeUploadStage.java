@@ -0,0 +1,168 @@
+package cabido.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Gatekeeper between an upload stream and {@link ResumeStorage}.
+ *
+ * <p>Only the first {@value #SNIFF_BYTES} bytes are read up front to identify the
+ * file by its magic bytes; the client's Content-Type is never trusted. Anything that
+ * is not a PDF, DOCX or DOC is rejected before storage writes a byte. The returned
+ * stream replays that block and then the rest of the upload, counting as it goes and
+ * failing as soon as {@code app.resume.max-bytes} is passed, so an oversized upload
+ * is cut off mid-stream instead of being buffered first. Size and SHA-256 are
+ * computed by the storage in the same pass that writes the file.
+ */
+@Component
+public class ResumeUploadStage {
+
+    public static final int SNIFF_BYTES = 8192;
+
+    static final String UNSUPPORTED = "Unsupported resume format; upload a PDF, DOCX or DOC file";
+
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+    private static final byte[] OLE2_MAGIC = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+
+    public enum ResumeType {
+        PDF("application/pdf", ".pdf"),
+        DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", ".docx"),
+        DOC("application/msword", ".doc");
+
+        private final String contentType;
+        private final String extension;
+
+        ResumeType(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    /**
+     * @param type    what the magic bytes identified
+     * @param content the whole upload, limited to the configured size
+     */
+    public record Upload(ResumeType type, InputStream content) {
+    }
+
+    @Value("${app.resume.max-bytes:10485760}")
+    private long maxBytes;
+
+    /**
+     * Checks the declared size and the first block. {@code declaredSize} is what the
+     * client announced (-1 if unknown); the limit is enforced on the bytes read
+     * regardless.
+     */
+    public Upload open(InputStream raw, long declaredSize) throws IOException {
+        if (declaredSize > maxBytes) {
+            throw new RuntimeException(tooLarge());
+        }
+        byte[] head = raw.readNBytes(SNIFF_BYTES);
+        ResumeType type = detect(head);
+        if (type == null) {
+            throw new RuntimeException(UNSUPPORTED);
+        }
+        InputStream replay = new SequenceInputStream(new ByteArrayInputStream(head), raw);
+        return new Upload(type, new LimitedInputStream(replay, maxBytes, tooLarge()));
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    static ResumeType detect(byte[] head) {
+        if (startsWith(head, PDF_MAGIC)) {
+            return ResumeType.PDF;
+        }
+        if (startsWith(head, OLE2_MAGIC)) {
+            // Compound File Binary: Word 97-2003 (the container does not say which Office app)
+            return ResumeType.DOC;
+        }
+        if (startsWith(head, ZIP_MAGIC)) {
+            // A DOCX is a zip whose first entries are the OPC manifest and the word/ part
+            String names = new String(head, StandardCharsets.ISO_8859_1);
+            if (names.contains("[Content_Types].xml") || names.contains("word/")) {
+                return ResumeType.DOCX;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a file could be a resume judging by its first bytes alone, for checking
+     * the first chunk of an upload before the rest arrives.
+     */
+    static boolean hasResumeMagic(byte[] head) {
+        return startsWith(head, PDF_MAGIC) || startsWith(head, OLE2_MAGIC) || startsWith(head, ZIP_MAGIC);
+    }
+
+    private static boolean startsWith(byte[] head, byte[] magic) {
+        return head.length >= magic.length && Arrays.equals(head, 0, magic.length, magic, 0, magic.length);
+    }
+
+    String tooLarge() {
+        String limit = maxBytes >= 1024 * 1024 ? (maxBytes / (1024 * 1024)) + " MB" : (maxBytes / 1024) + " KB";
+        return "Resume exceeds the maximum size of " + limit;
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private final String message;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit, String message) {
+            super(in);
+            this.limit = limit;
+            this.message = message;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long n) throws IOException {
+            count += n;
+            if (count > limit) {
+                throw new IOException(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package cabido.backend.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.eclipse.angus.mail.util.MailConnectException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.net.SocketException;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A small pool of connected, authenticated SMTP transports. Opening a Gmail session
+ * costs a TCP connect, STARTTLS handshake and AUTH exchange; reusing the connection
+ * for many messages pays that once. Connections are handed out LIFO so the pool
+ * shrinks naturally when idle, and each one is retired after a fixed number of
+ * messages since providers cap per-connection volume.
+ */
+public class SmtpTransportPool implements DisposableBean {
+
+    private final Session session;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleMillis;
+    private final long validateAfterIdleMillis;
+
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final long borrowTimeoutMillis;
+
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong messagesSent = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public SmtpTransportPool(Session session, String host, int port, String username, String password,
+                             int maxSize, int maxMessagesPerConnection, long maxIdleMillis,
+                             long validateAfterIdleMillis, long borrowTimeoutMillis) {
+        this.session = session;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.permits = new Semaphore(maxSize, true);
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMillis = maxIdleMillis;
+        this.validateAfterIdleMillis = validateAfterIdleMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+    }
+
+    /**
+     * Sends one message over a pooled connection. A reused connection that turns out
+     * to be dead (server closed it while idle) is discarded and the send is retried
+     * once on a fresh connection. Anything else - a rejected sender or recipient, or
+     * a failure once the message body was on the wire - is not retried, as the
+     * message may already have been delivered.
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        message.saveChanges();
+
+        acquirePermit();
+        try {
+            if (!trySend(borrow(), message)) {
+                trySend(open(), message);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Returns the connection to the pool after a successful send and closes it on any
+     * failure, runtime exceptions included. Answers false rather than throwing only
+     * when a reused connection was found dead before the message went out.
+     */
+    private boolean trySend(PooledTransport pooled, MimeMessage message) throws MessagingException {
+        boolean sent = false;
+        try {
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            sent = true;
+        } catch (MessagingException e) {
+            if (pooled.reused && connectionLost(pooled.transport, e)) {
+                return false;
+            }
+            throw e;
+        } finally {
+            if (sent) {
+                pooled.messages++;
+                messagesSent.incrementAndGet();
+                release(pooled);
+            } else {
+                discard(pooled);
+            }
+        }
+        return true;
+    }
+
+    private static boolean connectionLost(Transport transport, MessagingException e) {
+        if (e instanceof SendFailedException) {
+            // The server answered and refused: sender, recipients or the message itself
+            return false;
+        }
+        if (transport instanceof SMTPTransport smtp && smtp.getLastReturnCode() == 354) {
+            // Past DATA: the body may have reached the server
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MailConnectException || cause instanceof SocketException) {
+                return true;
+            }
+        }
+        return !transport.isConnected();
+    }
+
+    private void acquirePermit() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for a pooled SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted waiting for a pooled SMTP connection", e);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            long idleFor = System.currentTimeMillis() - pooled.lastUsed;
+            if (idleFor > maxIdleMillis) {
+                discard(pooled);
+                continue;
+            }
+            // isConnected() issues a NOOP; only pay for it when the connection sat around
+            if (idleFor > validateAfterIdleMillis && !pooled.transport.isConnected()) {
+                discard(pooled);
+                continue;
+            }
+            pooled.reused = true;
+            return pooled;
+        }
+        return open();
+    }
+
+    private PooledTransport open() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(host, port, username, password);
+        connectionsOpened.incrementAndGet();
+        return new PooledTransport(transport);
+    }
+
+    private void release(PooledTransport pooled) {
+        if (closed || pooled.messages >= maxMessagesPerConnection) {
+            discard(pooled);
+            return;
+        }
+        pooled.lastUsed = System.currentTimeMillis();
+        idle.offerFirst(pooled);
+    }
+
+    private void discard(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (Exception ignored) {
+            // Connection already gone
+        }
+    }
+
+    /**
+     * Closes connections that have been idle longer than the configured limit. The
+     * oldest idle connections sit at the tail of the deque.
+     */
+    @Scheduled(fixedDelayString = "${app.email.pool.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledTransport> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            PooledTransport pooled = it.next();
+            if (now - pooled.lastUsed > maxIdleMillis && idle.remove(pooled)) {
+                discard(pooled);
+            }
+        }
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public long getMessagesSent() {
+        return messagesSent.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+
+    private static final class PooledTransport {
+        final Transport transport;
+        int messages;
+        long lastUsed = System.currentTimeMillis();
+        boolean reused;
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package cabido.backend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyed token buckets: each key may spend up to {@code capacity} permits in a burst,
+ * refilled continuously at {@code refillPerMinute}.
+ *
+ * <p>Buckets are lock-free: a bucket's (tokens, last refill) state is an immutable
+ * value swapped with compare-and-set, so concurrent requests for the same key never
+ * block each other and different keys never share anything beyond the map. A bucket
+ * left alone long enough to refill completely behaves exactly like a new one, so
+ * {@link #evictIdle()} can drop it without changing any future decision.
+ */
+public class TokenBucketLimiter {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final long fullRefillNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public record Decision(boolean allowed, long retryAfterSeconds) {
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    private static final class Bucket {
+        final AtomicReference<State> state;
+
+        Bucket(State initial) {
+            this.state = new AtomicReference<>(initial);
+        }
+    }
+
+    public TokenBucketLimiter(long capacity, double refillPerMinute) {
+        this(capacity, refillPerMinute, System::nanoTime);
+    }
+
+    TokenBucketLimiter(long capacity, double refillPerMinute, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.fullRefillNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.nanoClock = nanoClock;
+    }
+
+    public Decision tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(new State(capacity, now)));
+        while (true) {
+            State current = bucket.state.get();
+            // Another thread may have refilled with a slightly later timestamp than ours
+            long elapsed = Math.max(0, now - current.refilledAt());
+            double tokens = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+            if (tokens < 1) {
+                long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                return new Decision(false, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+            }
+            if (bucket.state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.refilledAt())))) {
+                return new Decision(true, 0);
+            }
+        }
+    }
+
+    /**
+     * Removes buckets that have had time to refill completely. Returns how many were dropped.
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> now - bucket.state.get().refilledAt() >= fullRefillNanos);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
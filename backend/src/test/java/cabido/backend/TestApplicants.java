@@ -0,0 +1,36 @@
+package cabido.backend;
+
+import cabido.backend.dto.ApplicantDTO;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Applicant payloads for tests that only need a row passing validation. Tests that
+ * care about a field (project, name) set it on the returned DTO.
+ */
+public final class TestApplicants {
+
+	public static final String FULL_NAME = "Ada Lovelace";
+
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	private TestApplicants() {
+	}
+
+	public static ApplicantDTO valid(String email) {
+		ApplicantDTO dto = new ApplicantDTO();
+		dto.setFirstName("Ada");
+		dto.setLastName("Lovelace");
+		dto.setAge(28);
+		dto.setDegree("BS Mathematics");
+		dto.setRelevantExperience("Analytical engine programs");
+		dto.setEmail(email);
+		dto.setProjectAppliedFor("Genealogy");
+		return dto;
+	}
+
+	// With an email no other test in the same context uses
+	public static ApplicantDTO valid() {
+		return valid("applicant" + SEQUENCE.incrementAndGet() + "-" + System.nanoTime() + "@example.com");
+	}
+}
@@ -0,0 +1,56 @@
+package cabido.backend.config;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.service.ApplicantService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.email.outbox.poll-interval-ms=3600000")
+class ResumeStorageMigratorTests {
+
+	@Autowired
+	private ResumeStorageMigrator migrator;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@TempDir
+	Path legacyDir;
+
+	@Test
+	void movesLegacyFlatFilesIntoStorage() throws Exception {
+		jdbcTemplate.execute("ALTER TABLE applicants ADD COLUMN IF NOT EXISTS resume_path VARCHAR(255)");
+		Long migrated = applicantService.createApplicant(TestApplicants.valid("legacy1@example.com")).getId();
+		Long missing = applicantService.createApplicant(TestApplicants.valid("legacy2@example.com")).getId();
+		Path legacyFile = legacyDir.resolve(migrated + "_cv.pdf");
+		Files.writeString(legacyFile, "%PDF-1.4 legacy resume", StandardCharsets.US_ASCII);
+		jdbcTemplate.update("UPDATE applicants SET resume_file_name = 'cv.pdf', resume_content_type = 'application/pdf', resume_path = ? WHERE id = ?",
+				legacyFile.toString(), migrated);
+		jdbcTemplate.update("UPDATE applicants SET resume_path = ? WHERE id = ?", legacyDir.resolve("gone.pdf").toString(), missing);
+
+		migrator.migrateLegacyPaths();
+
+		assertNull(jdbcTemplate.queryForObject("SELECT resume_path FROM applicants WHERE id = ?", String.class, migrated));
+		assertNotNull(jdbcTemplate.queryForObject("SELECT resume_key FROM applicants WHERE id = ?", String.class, migrated));
+		ApplicantService.ResumeDownload resume = applicantService.loadResume(migrated);
+		assertEquals("%PDF-1.4 legacy resume", resume.resource().getContentAsString(StandardCharsets.US_ASCII));
+		assertEquals("cv.pdf", resume.fileName());
+		assertEquals("application/pdf", resume.contentType());
+
+		// A missing file leaves the row for someone to look at
+		assertNotNull(jdbcTemplate.queryForObject("SELECT resume_path FROM applicants WHERE id = ?", String.class, missing));
+		assertNull(jdbcTemplate.queryForObject("SELECT resume_key FROM applicants WHERE id = ?", String.class, missing));
+	}
+}
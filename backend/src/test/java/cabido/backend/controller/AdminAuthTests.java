@@ -0,0 +1,70 @@
+package cabido.backend.controller;
+
+import cabido.backend.repository.AdminRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.email.outbox.poll-interval-ms=3600000")
+@AutoConfigureMockMvc
+class AdminAuthTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockitoSpyBean
+	private AdminRepository adminRepository;
+
+	@Test
+	void signedTokenAuthenticatesWithoutTouchingTheAdminTable() throws Exception {
+		String body = mockMvc.perform(post("/api/admin/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"admin@lifewood.com\",\"password\":\"admin123\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		JsonNode json = objectMapper.readTree(body);
+		String token = json.get("token").asText();
+		clearInvocations(adminRepository);
+
+		mockMvc.perform(get("/api/admin/cache/stats").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/admin/validate").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		verifyNoInteractions(adminRepository);
+
+		mockMvc.perform(get("/api/admin/cache/stats"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/admin/cache/stats").header("Authorization", "Bearer dummy-token"))
+				.andExpect(status().isUnauthorized());
+
+		mockMvc.perform(post("/api/admin/logout").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/admin/cache/stats").header("Authorization", "Bearer " + token))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/admin/validate").header("Authorization", "Bearer " + token))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void rejectsWrongPassword() throws Exception {
+		mockMvc.perform(post("/api/admin/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"admin@lifewood.com\",\"password\":\"wrong\"}"))
+				.andExpect(status().isUnauthorized());
+	}
+}
@@ -0,0 +1,96 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.entity.OutboxEmail;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.repository.OutboxEmailRepository;
+import cabido.backend.service.AdminTokenService;
+import cabido.backend.service.ApplicantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.email.outbox.poll-interval-ms=3600000")
+@AutoConfigureMockMvc
+class ApplicantBatchStatusTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private OutboxEmailRepository outboxEmailRepository;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	private Long first;
+	private Long second;
+
+	@BeforeEach
+	void setUp() {
+		outboxEmailRepository.deleteAll();
+		applicantRepository.deleteAll();
+		first = applicantService.createApplicant(TestApplicants.valid("batch1@example.com")).getId();
+		second = applicantService.createApplicant(TestApplicants.valid("batch2@example.com")).getId();
+		applicantService.updateStatus(second, "approved");
+		outboxEmailRepository.deleteAll();
+	}
+
+	@Test
+	void approvesManyApplicantsAndReportsPerIdOutcome() throws Exception {
+		mockMvc.perform(post("/api/applicants/status:batch")
+						.header("Authorization", "Bearer " + adminTokenService.issue(1L))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"ids\":[" + first + "," + second + ",999999]," + "\"status\":\"approved\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.updated").value(1))
+				.andExpect(jsonPath("$.unchanged").value(1))
+				.andExpect(jsonPath("$.notFound").value(1))
+				.andExpect(jsonPath("$.results[0].outcome").value("updated"))
+				.andExpect(jsonPath("$.results[1].outcome").value("unchanged"))
+				.andExpect(jsonPath("$.results[2].outcome").value("not_found"));
+
+		assertEquals("approved", applicantRepository.findById(first).orElseThrow().getStatus());
+		// Only the applicant whose status actually changed is notified
+		assertEquals(1, outboxEmailRepository.count());
+		OutboxEmail queued = outboxEmailRepository.findAll().get(0);
+		assertEquals("batch1@example.com", queued.getRecipient());
+		assertEquals(OutboxEmail.Template.APPROVAL, queued.getTemplate());
+	}
+
+	@Test
+	void rejectsEmptyBatch() throws Exception {
+		mockMvc.perform(post("/api/applicants/status:batch")
+						.header("Authorization", "Bearer " + adminTokenService.issue(1L))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"ids\":[],\"status\":\"approved\"}"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void anonymousCallersCannotDecideInBulk() throws Exception {
+		String body = "{\"ids\":[" + first + "],\"status\":\"rejected\"}";
+		mockMvc.perform(post("/api/applicants/status:batch").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(post("/applicants/status:batch").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isUnauthorized());
+
+		assertEquals("pending", applicantRepository.findById(first).orElseThrow().getStatus());
+		assertEquals(0, outboxEmailRepository.count());
+	}
+}
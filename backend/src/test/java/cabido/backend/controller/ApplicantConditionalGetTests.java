@@ -0,0 +1,138 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.ApplicantService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.http.gzip.min-bytes=1024"
+})
+@AutoConfigureMockMvc
+class ApplicantConditionalGetTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Long id;
+
+	@BeforeEach
+	void setUp() {
+		applicantRepository.deleteAll();
+		for (int i = 0; i < 20; i++) {
+			ApplicantDTO created = applicantService.createApplicant(TestApplicants.valid("etag" + i + "@example.com"));
+			if (i == 0) {
+				id = created.getId();
+			}
+		}
+	}
+
+	@Test
+	void unchangedApplicantRevalidatesAsNotModifiedUntilItChanges() throws Exception {
+		MockHttpServletResponse first = mockMvc.perform(get("/api/applicants/" + id))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		String etag = first.getHeader(HttpHeaders.ETAG);
+		assertNotNull(etag);
+		assertFalse(etag.startsWith("W/"));
+
+		MockHttpServletResponse revalidated = mockMvc.perform(get("/api/applicants/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andReturn().getResponse();
+		assertEquals(etag, revalidated.getHeader(HttpHeaders.ETAG));
+		assertEquals(0, revalidated.getContentLength());
+
+		mockMvc.perform(put("/api/applicants/" + id + "/approve")).andExpect(status().isOk());
+
+		MockHttpServletResponse changed = mockMvc.perform(get("/api/applicants/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+		assertEquals("approved", objectMapper.readTree(changed.getContentAsByteArray()).get("status").asText());
+	}
+
+	@Test
+	void notModifiedListDoesNotQueryTheDatabase() throws Exception {
+		String etag = mockMvc.perform(get("/api/applicants"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long statements = statistics.getPrepareStatementCount();
+		mockMvc.perform(get("/api/applicants").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/applicants/project/Genealogy").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		assertEquals(statements, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void largeBodiesAreGzippedWithTheirOwnTag() throws Exception {
+		MockHttpServletResponse plain = mockMvc.perform(get("/api/applicants"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		assertNull(plain.getHeader(HttpHeaders.CONTENT_ENCODING));
+
+		MockHttpServletResponse gzipped = mockMvc.perform(get("/api/applicants").header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		assertEquals("gzip", gzipped.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertTrue(gzipped.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+		assertNotEquals(plain.getHeader(HttpHeaders.ETAG), gzipped.getHeader(HttpHeaders.ETAG));
+		assertTrue(gzipped.getContentAsByteArray().length < plain.getContentAsByteArray().length);
+
+		byte[] inflated = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray())).readAllBytes();
+		JsonNode page = objectMapper.readTree(inflated);
+		assertEquals(20, page.get("items").size());
+		assertEquals(objectMapper.readTree(plain.getContentAsByteArray()), page);
+
+		mockMvc.perform(get("/api/applicants").header(HttpHeaders.IF_NONE_MATCH, gzipped.getHeader(HttpHeaders.ETAG)))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/applicants").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+				.andExpect(status().isOk())
+				.andExpect(result -> assertNull(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)));
+	}
+
+	@Test
+	void projectListIsTaggedToo() throws Exception {
+		String etag = mockMvc.perform(get("/api/projects"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		mockMvc.perform(get("/api/projects").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+}
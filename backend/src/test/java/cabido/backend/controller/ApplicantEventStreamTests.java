@@ -0,0 +1,136 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.ApplicantEventBroadcaster;
+import cabido.backend.service.AdminTokenService;
+import cabido.backend.service.ApplicantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.email.outbox.poll-interval-ms=3600000", "app.sse.replay-size=3"})
+@AutoConfigureMockMvc
+class ApplicantEventStreamTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private ApplicantEventBroadcaster broadcaster;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	private int counter;
+
+	@BeforeEach
+	void setUp() {
+		applicantRepository.deleteAll();
+	}
+
+	@Test
+	void pushesChangesToOpenStreams() throws Exception {
+		MvcResult stream = mockMvc.perform(get("/api/applicants/events").param("token", adminTokenService.issueStreamToken(1L)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		ApplicantDTO created = create();
+		applicantService.approveApplicant(created.getId());
+
+		String body = await(stream.getResponse(), "event:status_changed");
+		assertTrue(body.contains("event:created"));
+		assertTrue(body.contains("\"applicantId\":" + created.getId()));
+		assertTrue(body.indexOf("event:created") < body.indexOf("event:status_changed"));
+	}
+
+	@Test
+	void replaysMissedEventsAfterLastEventId() throws Exception {
+		long lastSeen = broadcaster.lastEventId();
+		ApplicantDTO first = create();
+		ApplicantDTO second = create();
+
+		MvcResult stream = mockMvc.perform(get("/api/applicants/events").param("token", adminTokenService.issueStreamToken(1L)).header("Last-Event-ID", String.valueOf(lastSeen)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = await(stream.getResponse(), "id:" + (lastSeen + 2));
+		assertTrue(body.contains("id:" + (lastSeen + 1)));
+		assertTrue(body.contains("\"applicantId\":" + first.getId()));
+		assertTrue(body.contains("\"applicantId\":" + second.getId()));
+		assertFalse(body.contains("id:" + lastSeen + "\n"));
+	}
+
+	@Test
+	void sendsResetWhenTheGapIsOlderThanTheReplayLog() throws Exception {
+		long lastSeen = broadcaster.lastEventId();
+		for (int i = 0; i < 5; i++) {
+			create();
+		}
+
+		MvcResult stream = mockMvc.perform(get("/api/applicants/events").param("token", adminTokenService.issueStreamToken(1L)).param("lastEventId", String.valueOf(lastSeen)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = await(stream.getResponse(), "event:" + ApplicantEventBroadcaster.RESET_EVENT);
+		assertFalse(body.contains("event:created"));
+	}
+
+	@Test
+	void streamAndCountsAreForAdminsOnly() throws Exception {
+		String adminToken = adminTokenService.issue(1L);
+		String streamToken = adminTokenService.issueStreamToken(1L);
+
+		mockMvc.perform(get("/api/applicants/events")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/applicants/events")).andExpect(status().isUnauthorized());
+		// Each kind of token only works where it is meant to
+		mockMvc.perform(get("/api/applicants/events").param("token", adminToken)).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/applicants/stats").header("Authorization", "Bearer " + streamToken))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/applicants/stats").param("token", streamToken)).andExpect(status().isUnauthorized());
+
+		mockMvc.perform(get("/api/applicants/stats")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/applicants/stats").header("Authorization", "Bearer " + adminToken))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(post("/api/admin/events/token")).andExpect(status().isUnauthorized());
+		mockMvc.perform(post("/api/admin/events/token").header("Authorization", "Bearer " + adminToken))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.token").isNotEmpty())
+				.andExpect(jsonPath("$.expiresInSeconds").value(60));
+	}
+
+	private ApplicantDTO create() {
+		return applicantService.createApplicant(TestApplicants.valid());
+	}
+
+	private static String await(MockHttpServletResponse response, String marker) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		String body = response.getContentAsString();
+		while (!body.contains(marker) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			body = response.getContentAsString();
+		}
+		assertTrue(body.contains(marker), "Expected " + marker + " in:\n" + body);
+		return body;
+	}
+}
@@ -0,0 +1,145 @@
+package cabido.backend.controller;
+
+import cabido.backend.entity.Applicant;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.AdminTokenService;
+import cabido.backend.service.ApplicantFileFormat;
+import cabido.backend.service.ApplicantImportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.email.outbox.poll-interval-ms=3600000")
+@AutoConfigureMockMvc
+class ApplicantExportTests {
+
+	private static final int ROWS = 1500;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private ApplicantImportService importService;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private String token;
+
+	@BeforeEach
+	void setUp() {
+		token = adminTokenService.issue(1L);
+		applicantRepository.deleteAll();
+		StringBuilder csv = new StringBuilder("First Name,Last Name,Age,Degree,Relevant Experience,Email,Project Applied For\n");
+		for (int i = 0; i < ROWS; i++) {
+			String project = i % 3 == 0 ? "Genealogy" : "Computer Vision";
+			csv.append("First").append(i).append(",Last").append(i).append(',').append(20 + i % 30)
+					.append(",BSCS,\"Line one, with \"\"quotes\"\"\nline two\",export").append(i)
+					.append("@example.com,").append(project).append('\n');
+		}
+		importService.importApplicants(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), ApplicantFileFormat.CSV);
+	}
+
+	@Test
+	void csvExportAppliesFiltersAndRoundTripsThroughImport() throws Exception {
+		String csv = download("/api/admin/applicants/export?format=csv&project=Genealogy&sort=createdAt,asc", "text/csv;charset=UTF-8");
+		assertTrue(csv.startsWith("ID,First Name,Last Name,Age,Degree,Relevant Experience,Email,Project Applied For,Status,Created At\r\n"));
+		assertTrue(csv.contains("\"Line one, with \"\"quotes\"\"\nline two\""));
+
+		applicantRepository.deleteAll();
+		var report = importService.importApplicants(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ApplicantFileFormat.CSV);
+		assertEquals(ROWS / 3, report.getImported());
+		assertEquals(0, report.getFailed());
+		assertEquals("Line one, with \"quotes\"\nline two",
+				applicantRepository.findByEmail("export0@example.com").orElseThrow().getRelevantExperience());
+	}
+
+	@Test
+	void ndjsonExportWritesOneApplicantPerLine() throws Exception {
+		String ndjson = download("/api/admin/applicants/export?format=ndjson&minAge=40", "application/x-ndjson;charset=UTF-8");
+		String[] lines = ndjson.split("\n");
+		assertTrue(ndjson.endsWith("\n"));
+		assertEquals(ROWS / 30 * 10, lines.length);
+		for (String line : lines) {
+			JsonNode node = objectMapper.readTree(line);
+			assertTrue(node.get("age").asInt() >= 40);
+			assertFalse(line.startsWith(" "));
+		}
+	}
+
+	@Test
+	void rejectsBadFormatOrSortBeforeStreaming() throws Exception {
+		mockMvc.perform(get("/api/admin/applicants/export").param("format", "xlsx").header("Authorization", "Bearer " + token))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/admin/applicants/export").param("sort", "relevantExperience").header("Authorization", "Bearer " + token))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void exportRequiresAnAdminToken() throws Exception {
+		mockMvc.perform(get("/api/admin/applicants/export").param("format", "csv"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/admin/applicants/export").param("format", "csv").header("Authorization", "Bearer not-a-token"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void cursorDetachesEachApplicantOnceVisited() {
+		List<Applicant> visited = new ArrayList<>();
+		long count = new TransactionTemplate(transactionManager).execute(tx ->
+				applicantRepository.forEachApplicant(null, Sort.by("id"), applicant -> {
+					if (!visited.isEmpty()) {
+						assertFalse(entityManager.contains(visited.get(visited.size() - 1)));
+					}
+					visited.add(applicant);
+				}));
+		assertEquals(ROWS, count);
+	}
+
+	private String download(String url, String contentType) throws Exception {
+		MvcResult pending = mockMvc.perform(get(url).header("Authorization", "Bearer " + token))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", contentType))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+	}
+}
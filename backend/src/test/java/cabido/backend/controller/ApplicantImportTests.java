@@ -0,0 +1,132 @@
+package cabido.backend.controller;
+
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.AdminTokenService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.email.outbox.poll-interval-ms=3600000")
+@AutoConfigureMockMvc
+class ApplicantImportTests {
+
+	private static final String HEADER = "First Name,Last Name,Age,Degree,Relevant Experience,Email,Project Applied For\n";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	private String token;
+
+	@BeforeEach
+	void setUp() {
+		applicantRepository.deleteAll();
+		token = adminTokenService.issue(1L);
+	}
+
+	@Test
+	void csvImportReportsEachRejectedRow() throws Exception {
+		String csv = HEADER
+				+ "Ana,Cruz,25,BSCS,\"Five years, mostly \"\"ETL\"\"\nand labelling\",ana@example.com,Genealogy\n"
+				+ "Ben,Reyes,17,BSIT,Intern,ben@example.com,Genealogy\n"
+				+ "Cid,Lim,abc,BSIT,Intern,cid@example.com,Genealogy\n"
+				+ "Dee,Tan,30,BSIT,Intern,dee@example.com,Underwater Basket Weaving\n"
+				+ "Eve,Sy,30,BSIT,Intern,ANA@example.com,Computer Vision\n"
+				+ "Fay,Go,30,BSIT\n"
+				+ "Gil,Uy,40,BSEE,Lead,gil@example.com,Computer Vision\n";
+
+		JsonNode report = importBody(csv, "csv");
+		assertEquals(7, report.get("totalRows").asLong());
+		assertEquals(2, report.get("imported").asLong());
+		assertEquals(5, report.get("failed").asLong());
+		assertEquals(2, report.get("errors").get(0).get("row").asLong());
+		assertEquals("Age must be at least 18", report.get("errors").get(0).get("message").asText());
+		assertEquals("Age must be a whole number", report.get("errors").get(1).get("message").asText());
+		assertEquals("Invalid project selection", report.get("errors").get(2).get("message").asText());
+		assertEquals("Duplicate email (first used in row 1)", report.get("errors").get(3).get("message").asText());
+		assertEquals(6, report.get("errors").get(4).get("row").asLong());
+
+		assertEquals("Five years, mostly \"ETL\"\nand labelling",
+				applicantRepository.findByEmail("ana@example.com").orElseThrow().getRelevantExperience());
+
+		// Re-importing the same file only trips the existing-email check
+		JsonNode again = importBody(HEADER + "Gil,Uy,40,BSEE,Lead,gil@example.com,Computer Vision\n", "csv");
+		assertEquals(0, again.get("imported").asLong());
+		assertEquals("Email already exists", again.get("errors").get(0).get("message").asText());
+	}
+
+	@Test
+	void ndjsonImportSkipsMalformedLines() throws Exception {
+		String ndjson = "{\"firstName\":\"Ana\",\"lastName\":\"Cruz\",\"age\":25,\"degree\":\"BSCS\","
+				+ "\"relevantExperience\":\"ETL\",\"email\":\"ana@example.com\",\"projectAppliedFor\":\"Genealogy\"}\n"
+				+ "\n"
+				+ "{not json\n"
+				+ "[1, 2]\n"
+				+ "{\"firstName\":\"Ben\",\"age\":\"31\",\"email\":\"ben@example.com\"}\n";
+
+		JsonNode report = importBody(ndjson, "ndjson");
+		assertEquals(4, report.get("totalRows").asLong());
+		assertEquals(1, report.get("imported").asLong());
+		assertTrue(report.get("errors").get(0).get("message").asText().startsWith("Malformed JSON"));
+		assertEquals("Each line must be a JSON object", report.get("errors").get(1).get("message").asText());
+		assertTrue(report.get("errors").get(2).get("message").asText().contains("Last name is required"));
+		assertFalse(report.get("errorsTruncated").asBoolean());
+	}
+
+	@Test
+	void rejectsUnknownFormatAndMissingColumns() throws Exception {
+		mockMvc.perform(post("/api/admin/applicants/import").param("format", "xml")
+						.header("Authorization", "Bearer " + token).content("<a/>"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(post("/api/admin/applicants/import").param("format", "csv")
+						.header("Authorization", "Bearer " + token).content("First Name,Email\nAna,ana@example.com\n"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(post("/api/admin/applicants/import").param("format", "csv").content(HEADER))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void importsLargeFilesInBatches() throws Exception {
+		// Throughput is measured by load/ApplicantImportLoadTests
+		int rows = 5_000;
+		StringBuilder csv = new StringBuilder(rows * 90).append(HEADER);
+		for (int i = 0; i < rows; i++) {
+			csv.append("First").append(i).append(",Last").append(i).append(',').append(18 + i % 40)
+					.append(",BSCS,Experience ").append(i).append(",bulk").append(i).append("@example.com,Genealogy\n");
+		}
+
+		JsonNode report = importBody(csv.toString(), "csv");
+		assertEquals(rows, report.get("imported").asLong());
+		assertEquals(rows, applicantRepository.count());
+	}
+
+	private JsonNode importBody(String body, String format) throws Exception {
+		String response = mockMvc.perform(post("/api/admin/applicants/import").param("format", format)
+						.header("Authorization", "Bearer " + token)
+						.content(body.getBytes(StandardCharsets.UTF_8)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response);
+	}
+}
@@ -0,0 +1,102 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.AdminTokenService;
+import cabido.backend.service.ApplicantService;
+import cabido.backend.service.EmailService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Scrapes the in-process Prometheus registry; no collector or SMTP server is involved
+@SpringBootTest(properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.email.pool.enabled=false",
+		"spring.mail.properties.mail.smtp.connectiontimeout=500"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private EmailService emailService;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	@Test
+	void prometheusEndpointExposesApplicationAndInfrastructureMeters() throws Exception {
+		applicantRepository.deleteAll();
+		ApplicantDTO created = applicantService.createApplicant(TestApplicants.valid("metrics@example.com"));
+		mockMvc.perform(get("/api/applicants/{id}", created.getId())).andExpect(status().isOk());
+		mockMvc.perform(multipart("/api/applicants/{id}/resume", created.getId())
+						.file(new MockMultipartFile("resume", "cv.pdf", "application/pdf",
+								Arrays.copyOf("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), 2048)))
+						.with(request -> {
+							request.setMethod("PUT");
+							return request;
+						}))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/applicants/{id}/resume", created.getId())).andExpect(status().isOk());
+		// Nothing listens on the test SMTP port, so this records a failed send
+		assertThrows(RuntimeException.class, () -> emailService.sendApprovalEmail("metrics@example.com", "Metrics"));
+
+		mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus")
+						.header("Authorization", "Bearer " + adminTokenService.issue(1L)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertContains(scrape, "http_server_requests_seconds_count{", "uri=\"/api/applicants/{id}\"");
+		assertContains(scrape, "http_server_requests_seconds_bucket{", "uri=\"/api/applicants/{id}/resume\"");
+		assertContains(scrape, "spring_data_repository_invocations_seconds_count{", "repository=\"ApplicantRepository\"");
+		assertContains(scrape, "hibernate_", "entityManagerFactory=");
+		assertContains(scrape, "hikaricp_connections_active{", "pool=");
+		assertContains(scrape, "app_email_send_seconds_count{", "template=\"approval\"", "outcome=\"failure\"");
+		assertContains(scrape, "app_email_failures_total{", "template=\"approval\"");
+		assertContains(scrape, "app_resume_bytes_sum{", "direction=\"upload\"");
+		assertContains(scrape, "app_resume_bytes_sum{", "direction=\"download\"");
+		assertContains(scrape, "app_resume_upload_seconds_count{", "outcome=\"success\"");
+	}
+
+	private static void assertContains(String scrape, String prefix, String... fragments) {
+		boolean found = scrape.lines().anyMatch(line -> {
+			if (!line.startsWith(prefix)) {
+				return false;
+			}
+			for (String fragment : fragments) {
+				if (!line.contains(fragment)) {
+					return false;
+				}
+			}
+			return true;
+		});
+		assertTrue(found, () -> "No " + prefix + " line with " + String.join(", ", fragments));
+	}
+}
@@ -0,0 +1,83 @@
+package cabido.backend.controller;
+
+import cabido.backend.repository.AdminRepository;
+import cabido.backend.repository.ApplicantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.ratelimit.login.ip.capacity=100",
+		"app.ratelimit.login.account.capacity=2",
+		"app.ratelimit.login.account.refill-per-minute=1",
+		"app.ratelimit.submission.ip.capacity=1",
+		"app.ratelimit.submission.ip.refill-per-minute=1"
+})
+@AutoConfigureMockMvc
+class RateLimitTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoSpyBean
+	private AdminRepository adminRepository;
+
+	@MockitoSpyBean
+	private ApplicantRepository applicantRepository;
+
+	@Test
+	void throttlesLoginPerAccountBeforeLookingUpTheAdmin() throws Exception {
+		String body = "{\"email\":\"limited@lifewood.com\",\"password\":\"wrong\"}";
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(post("/api/admin/login").contentType(MediaType.APPLICATION_JSON).content(body))
+					.andExpect(status().isUnauthorized());
+		}
+		clearInvocations(adminRepository);
+
+		mockMvc.perform(post("/api/admin/login").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "60"));
+		verifyNoInteractions(adminRepository);
+
+		// Same IP, different account: still allowed
+		mockMvc.perform(post("/api/admin/login").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"other@lifewood.com\",\"password\":\"wrong\"}"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void throttlesSubmissionsPerClientIpBeforeTouchingTheDatabase() throws Exception {
+		mockMvc.perform(multipart("/api/applicants").param("firstName", "x").with(r -> {
+					r.setRemoteAddr("10.0.0.7");
+					return r;
+				}))
+				.andExpect(status().isBadRequest());
+		clearInvocations(applicantRepository);
+
+		mockMvc.perform(multipart("/api/applicants").param("firstName", "x").with(r -> {
+					r.setRemoteAddr("10.0.0.7");
+					return r;
+				}))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().exists("Retry-After"));
+		verifyNoInteractions(applicantRepository);
+
+		mockMvc.perform(multipart("/api/applicants").param("firstName", "x").with(r -> {
+					r.setRemoteAddr("10.0.0.8");
+					return r;
+				}))
+				.andExpect(status().isBadRequest());
+	}
+}
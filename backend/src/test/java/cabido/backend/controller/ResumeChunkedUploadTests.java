@@ -0,0 +1,204 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.entity.Applicant;
+import cabido.backend.entity.ResumeUploadSession;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.repository.ResumeUploadSessionRepository;
+import cabido.backend.service.ApplicantService;
+import cabido.backend.service.ResumeUploadService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.ratelimit.enabled=false",
+		"app.resume.max-bytes=262144",
+		"app.resume.upload.cleanup-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ResumeChunkedUploadTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private ResumeUploadSessionRepository sessionRepository;
+
+	@Autowired
+	private ResumeUploadService resumeUploadService;
+
+	@Value("${app.resume.storage.dir}")
+	private Path storageDir;
+
+	@Test
+	void resumesAfterAnInterruptionAndFilesTheWholeFile() throws Exception {
+		Long id = applicantId("chunked-ok@example.com");
+		byte[] pdf = pdf(200_000, 1);
+		String uploadId = start(id, "portfolio.pdf", pdf.length, null);
+
+		assertEquals(64 * 1024, offset(chunk(id, uploadId, 0, Arrays.copyOfRange(pdf, 0, 64 * 1024)).andExpect(status().isOk())));
+		// The client lost the response and retries the same chunk: told where to continue instead
+		assertEquals(64 * 1024, offset(chunk(id, uploadId, 0, Arrays.copyOfRange(pdf, 0, 64 * 1024)).andExpect(status().isConflict())));
+		assertEquals(64 * 1024, offset(mockMvc.perform(get("/api/applicants/{id}/resume/uploads/{uploadId}", id, uploadId))
+				.andExpect(status().isOk())));
+
+		chunk(id, uploadId, 64 * 1024, Arrays.copyOfRange(pdf, 64 * 1024, 150_000)).andExpect(status().isOk());
+		chunk(id, uploadId, 150_000, Arrays.copyOfRange(pdf, 150_000, pdf.length)).andExpect(status().isOk());
+		complete(id, uploadId, sha256(pdf)).andExpect(status().isOk());
+
+		Applicant applicant = applicantRepository.findById(id).orElseThrow();
+		assertEquals(sha256(pdf), applicant.getResumeKey());
+		assertEquals(pdf.length, applicant.getResumeSize());
+		assertEquals("application/pdf", applicant.getResumeContentType());
+		assertEquals("portfolio.pdf", applicant.getResumeFileName());
+		assertFalse(sessionRepository.existsById(uploadId));
+		assertFalse(Files.exists(part(uploadId)));
+
+		mockMvc.perform(get("/api/applicants/{id}/resume", id))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(pdf));
+	}
+
+	@Test
+	void rejectsChecksumMismatchAndIncompleteUploads() throws Exception {
+		Long id = applicantId("chunked-bad@example.com");
+		byte[] pdf = pdf(20_000, 2);
+		String uploadId = start(id, "cv.pdf", pdf.length, sha256(pdf(20_000, 3)));
+
+		chunk(id, uploadId, 0, Arrays.copyOfRange(pdf, 0, 10_000)).andExpect(status().isOk());
+		complete(id, uploadId, null).andExpect(status().isBadRequest());
+		assertTrue(sessionRepository.existsById(uploadId), "an incomplete upload can still be finished");
+
+		// Past the declared size: refused and nothing of it kept
+		chunk(id, uploadId, 10_000, Arrays.copyOfRange(pdf(20_001, 2), 10_000, 20_001)).andExpect(status().isBadRequest());
+		assertEquals(10_000, Files.size(part(uploadId)));
+
+		chunk(id, uploadId, 10_000, Arrays.copyOfRange(pdf, 10_000, pdf.length)).andExpect(status().isOk());
+		complete(id, uploadId, null).andExpect(status().isBadRequest());
+		assertFalse(sessionRepository.existsById(uploadId));
+		assertFalse(Files.exists(part(uploadId)));
+		assertNull(applicantRepository.findById(id).orElseThrow().getResumeKey());
+	}
+
+	@Test
+	void refusesNonResumesAndOversizedUploadsUpFront() throws Exception {
+		Long id = applicantId("chunked-type@example.com");
+		mockMvc.perform(post("/api/applicants/{id}/resume/uploads", id)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("fileName", "huge.pdf", "size", 262145))))
+				.andExpect(status().isBadRequest());
+
+		String uploadId = start(id, "cv.pdf", 100, null);
+		chunk(id, uploadId, 0, "#!/bin/sh\necho not a resume\n".getBytes(StandardCharsets.US_ASCII))
+				.andExpect(status().isBadRequest());
+		assertEquals(0, resumeUploadService.status(id, uploadId).getOffset());
+
+		mockMvc.perform(delete("/api/applicants/{id}/resume/uploads/{uploadId}", id, uploadId))
+				.andExpect(status().isNoContent());
+		mockMvc.perform(get("/api/applicants/{id}/resume/uploads/{uploadId}", id, uploadId))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void purgesAbandonedSessionsWithTheirBytes() throws Exception {
+		Long id = applicantId("chunked-idle@example.com");
+		String idle = start(id, "idle.pdf", 50_000, null);
+		String active = start(id, "active.pdf", 50_000, null);
+		chunk(id, idle, 0, pdf(1000, 4)).andExpect(status().isOk());
+		chunk(id, active, 0, pdf(1000, 5)).andExpect(status().isOk());
+
+		ResumeUploadSession session = sessionRepository.findById(idle).orElseThrow();
+		session.setUpdatedAt(LocalDateTime.now().minusDays(2));
+		sessionRepository.save(session);
+
+		resumeUploadService.purgeAbandoned();
+
+		assertFalse(sessionRepository.existsById(idle));
+		assertFalse(Files.exists(part(idle)));
+		assertTrue(sessionRepository.existsById(active));
+		assertEquals(1000, Files.size(part(active)));
+	}
+
+	private String start(Long id, String fileName, long size, String sha256) throws Exception {
+		ApplicantController.ResumeUploadRequest body = new ApplicantController.ResumeUploadRequest();
+		body.fileName = fileName;
+		body.size = size;
+		body.sha256 = sha256;
+		String json = mockMvc.perform(post("/api/applicants/{id}/resume/uploads", id)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(body)))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(json).get("uploadId").asText();
+	}
+
+	private ResultActions chunk(Long id, String uploadId, long offset, byte[] bytes) throws Exception {
+		return mockMvc.perform(put("/api/applicants/{id}/resume/uploads/{uploadId}", id, uploadId)
+				.param("offset", String.valueOf(offset))
+				.contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.content(bytes));
+	}
+
+	private ResultActions complete(Long id, String uploadId, String sha256) throws Exception {
+		return mockMvc.perform(post("/api/applicants/{id}/resume/uploads/{uploadId}/complete", id, uploadId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(sha256 == null ? "{}" : objectMapper.writeValueAsString(Map.of("sha256", sha256))));
+	}
+
+	private long offset(ResultActions result) throws Exception {
+		JsonNode json = objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+		return json.get("offset").asLong();
+	}
+
+	private Path part(String uploadId) {
+		return storageDir.resolve("tmp").resolve("chunked-" + uploadId + ".part");
+	}
+
+	private Long applicantId(String email) {
+		return applicantService.createApplicant(TestApplicants.valid(email)).getId();
+	}
+
+	private static byte[] pdf(int size, long seed) {
+		byte[] bytes = new byte[size];
+		new Random(seed).nextBytes(bytes);
+		System.arraycopy("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), 0, bytes, 0, 9);
+		return bytes;
+	}
+
+	private static String sha256(byte[] bytes) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+	}
+}
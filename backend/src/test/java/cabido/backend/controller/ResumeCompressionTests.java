@@ -0,0 +1,152 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.entity.Applicant;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.AdminTokenService;
+import cabido.backend.service.ApplicantService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.ratelimit.enabled=false",
+		"app.resume.storage.compression.enabled=true"
+})
+@AutoConfigureMockMvc
+class ResumeCompressionTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	@Test
+	void passesStoredGzipThroughOrInflatesIt() throws Exception {
+		byte[] pdf = textPdf(120_000);
+		Long id = upload("compressed-pdf@example.com", pdf);
+		Applicant applicant = applicantRepository.findById(id).orElseThrow();
+		assertEquals(pdf.length, applicant.getResumeSize());
+		assertTrue(applicant.getResumeStoredSize() < pdf.length / 4, "stored " + applicant.getResumeStoredSize() + " bytes");
+
+		MockHttpServletResponse gzipped = mockMvc.perform(get("/api/applicants/{id}/resume", id)
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+				.andReturn().getResponse();
+		assertEquals(applicant.getResumeStoredSize().intValue(), gzipped.getContentAsByteArray().length);
+		assertArrayEquals(pdf, new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray())).readAllBytes());
+		String gzipEtag = gzipped.getHeader(HttpHeaders.ETAG);
+		assertEquals("\"" + applicant.getResumeKey() + "-gzip\"", gzipEtag);
+
+		mockMvc.perform(get("/api/applicants/{id}/resume", id)
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+						.header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+				.andExpect(status().isNotModified());
+
+		MockHttpServletResponse identity = mockMvc.perform(get("/api/applicants/{id}/resume", id))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + applicant.getResumeKey() + "\""))
+				.andReturn().getResponse();
+		assertArrayEquals(pdf, identity.getContentAsByteArray());
+
+		// A range addresses the PDF itself, whatever the client accepts
+		MockHttpServletResponse range = mockMvc.perform(get("/api/applicants/{id}/resume", id)
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+						.header(HttpHeaders.RANGE, "bytes=1000-1999"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andReturn().getResponse();
+		assertArrayEquals(Arrays.copyOfRange(pdf, 1000, 2000), range.getContentAsByteArray());
+	}
+
+	@Test
+	void reportsSpaceSavedPerFile() throws Exception {
+		byte[] text = textPdf(80_000);
+		byte[] scanned = new byte[80_000];
+		new Random(9).nextBytes(scanned);
+		System.arraycopy("%PDF-1.5\n".getBytes(StandardCharsets.US_ASCII), 0, scanned, 0, 9);
+		Long textId = upload("compressed-stats-text@example.com", text);
+		Long scannedId = upload("compressed-stats-scan@example.com", scanned);
+
+		String json = mockMvc.perform(get("/api/admin/resumes/storage").param("limit", "500")
+						.header("Authorization", "Bearer " + adminTokenService.issue(1L)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		JsonNode stats = objectMapper.readTree(json);
+		assertTrue(stats.get("savedBytes").asLong() > 0);
+
+		JsonNode textFile = file(stats, textId);
+		assertEquals(80_000, textFile.get("size").asLong());
+		assertTrue(textFile.get("savedPercent").asDouble() > 75, textFile.toString());
+		JsonNode scannedFile = file(stats, scannedId);
+		assertEquals(0, scannedFile.get("savedBytes").asLong());
+		assertEquals(80_000, scannedFile.get("storedSize").asLong());
+
+		mockMvc.perform(get("/api/admin/resumes/storage"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	private Long upload(String email, byte[] content) throws Exception {
+		Long id = applicantService.createApplicant(TestApplicants.valid(email)).getId();
+		mockMvc.perform(multipart("/api/applicants/{id}/resume", id)
+						.file(new MockMultipartFile("resume", "resume.pdf", "application/pdf", content))
+						.with(request -> {
+							request.setMethod("PUT");
+							return request;
+						}))
+				.andExpect(status().isOk());
+		return id;
+	}
+
+	private static JsonNode file(JsonNode stats, Long applicantId) {
+		for (JsonNode file : stats.get("files")) {
+			if (file.get("applicantId").asLong() == applicantId) {
+				return file;
+			}
+		}
+		throw new AssertionError("no storage entry for applicant " + applicantId);
+	}
+
+	// An uncompressed content stream of text, as older PDF writers produce
+	private static byte[] textPdf(int size) {
+		StringBuilder pdf = new StringBuilder("%PDF-1.4\n");
+		int line = 0;
+		while (pdf.length() < size) {
+			pdf.append("BT /F1 11 Tf 72 ").append(720 - (line++ % 60) * 12).append(" Td (Data annotation lead, QA for vision datasets) Tj ET\n");
+		}
+		return pdf.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+	}
+}
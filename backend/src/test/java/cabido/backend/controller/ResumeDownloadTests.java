@@ -0,0 +1,137 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.service.ApplicantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the embedded Tomcat rather than MockMvc, so large bodies really take
+ * the sendfile path and small ones the FileChannel path.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.ratelimit.enabled=false"
+})
+class ResumeDownloadTests {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	private final HttpClient http = HttpClient.newHttpClient();
+
+	private static final byte[] LARGE = bytes(200 * 1024, 1);
+	private static final byte[] SMALL = bytes(4 * 1024, 2);
+
+	private Long large;
+	private Long small;
+
+	@BeforeEach
+	void setUp() {
+		large = upload(LARGE);
+		small = upload(SMALL);
+	}
+
+	@Test
+	void servesWholeFileWithValidators() throws Exception {
+		for (Long id : new Long[]{large, small}) {
+			byte[] expected = id.equals(large) ? LARGE : SMALL;
+			HttpResponse<byte[]> response = get(id, HttpRequest.newBuilder());
+			assertEquals(200, response.statusCode());
+			assertArrayEquals(expected, response.body());
+			assertEquals(String.valueOf(expected.length), response.headers().firstValue("Content-Length").orElseThrow());
+			assertEquals("bytes", response.headers().firstValue("Accept-Ranges").orElseThrow());
+			assertEquals("application/pdf", response.headers().firstValue("Content-Type").orElseThrow());
+			assertTrue(response.headers().firstValue("ETag").orElseThrow().matches("\"[0-9a-f]{64}\""));
+			assertTrue(response.headers().firstValue("Last-Modified").isPresent());
+		}
+	}
+
+	@Test
+	void servesSingleRanges() throws Exception {
+		HttpResponse<byte[]> middle = get(large, HttpRequest.newBuilder().header("Range", "bytes=100000-150000"));
+		assertEquals(206, middle.statusCode());
+		assertEquals("bytes 100000-150000/" + LARGE.length, middle.headers().firstValue("Content-Range").orElseThrow());
+		assertArrayEquals(Arrays.copyOfRange(LARGE, 100000, 150001), middle.body());
+
+		HttpResponse<byte[]> tail = get(small, HttpRequest.newBuilder().header("Range", "bytes=-10"));
+		assertEquals(206, tail.statusCode());
+		assertArrayEquals(Arrays.copyOfRange(SMALL, SMALL.length - 10, SMALL.length), tail.body());
+
+		HttpResponse<byte[]> open = get(small, HttpRequest.newBuilder().header("Range", "bytes=4000-"));
+		assertEquals(206, open.statusCode());
+		assertArrayEquals(Arrays.copyOfRange(SMALL, 4000, SMALL.length), open.body());
+
+		HttpResponse<byte[]> beyond = get(small, HttpRequest.newBuilder().header("Range", "bytes=999999-"));
+		assertEquals(416, beyond.statusCode());
+		assertEquals("bytes */" + SMALL.length, beyond.headers().firstValue("Content-Range").orElseThrow());
+	}
+
+	@Test
+	void revalidatesWithoutResendingTheBody() throws Exception {
+		HttpResponse<byte[]> first = get(large, HttpRequest.newBuilder());
+		String etag = first.headers().firstValue("ETag").orElseThrow();
+		String lastModified = first.headers().firstValue("Last-Modified").orElseThrow();
+
+		HttpResponse<byte[]> byTag = get(large, HttpRequest.newBuilder().header("If-None-Match", etag));
+		assertEquals(304, byTag.statusCode());
+		assertEquals(0, byTag.body().length);
+
+		HttpResponse<byte[]> byDate = get(large, HttpRequest.newBuilder().header("If-Modified-Since", lastModified));
+		assertEquals(304, byDate.statusCode());
+
+		// If-Range with an outdated tag means the client's partial copy is stale: send everything
+		HttpResponse<byte[]> staleRange = get(large, HttpRequest.newBuilder()
+				.header("Range", "bytes=0-99")
+				.header("If-Range", "\"" + "0".repeat(64) + "\""));
+		assertEquals(200, staleRange.statusCode());
+		assertEquals(LARGE.length, staleRange.body().length);
+
+		HttpResponse<byte[]> currentRange = get(large, HttpRequest.newBuilder()
+				.header("Range", "bytes=0-99")
+				.header("If-Range", etag));
+		assertEquals(206, currentRange.statusCode());
+		assertEquals(100, currentRange.body().length);
+	}
+
+	@Test
+	void missingResumeIsNotFound() throws Exception {
+		Long withoutResume = applicantService.createApplicant(TestApplicants.valid()).getId();
+		assertEquals(404, get(withoutResume, HttpRequest.newBuilder()).statusCode());
+		assertEquals(404, get(Long.MAX_VALUE, HttpRequest.newBuilder()).statusCode());
+	}
+
+	private HttpResponse<byte[]> get(Long id, HttpRequest.Builder builder) throws Exception {
+		HttpRequest request = builder.uri(URI.create("http://localhost:" + port + "/api/applicants/" + id + "/resume")).GET().build();
+		return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+	}
+
+	private Long upload(byte[] content) {
+		Long id = applicantService.createApplicant(TestApplicants.valid()).getId();
+		applicantService.saveResume(id, new MockMultipartFile("resume", "cv.pdf", "application/pdf", content));
+		return id;
+	}
+
+	private static byte[] bytes(int size, long seed) {
+		byte[] bytes = new byte[size];
+		new Random(seed).nextBytes(bytes);
+		System.arraycopy("%PDF-1.7\n".getBytes(), 0, bytes, 0, 9);
+		return bytes;
+	}
+}
@@ -0,0 +1,157 @@
+package cabido.backend.controller;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.entity.Applicant;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.ApplicantService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.ratelimit.enabled=false",
+		"app.resume.max-bytes=65536"
+})
+@AutoConfigureMockMvc
+class ResumeUploadTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Value("${app.resume.storage.dir}")
+	private Path storageDir;
+
+	@Test
+	void recordsSniffedTypeSizeAndChecksum() throws Exception {
+		byte[] pdf = pdf(5000, 'p');
+		Applicant stored = upload(pdf, "application/octet-stream");
+		assertEquals("application/pdf", stored.getResumeContentType());
+		assertEquals(5000L, stored.getResumeSize());
+		assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(pdf)), stored.getResumeSha256());
+		assertNotNull(stored.getResumeUploadedAt());
+
+		assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+				upload(docx(), "application/pdf").getResumeContentType());
+
+		byte[] doc = Arrays.copyOf(new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1}, 4096);
+		assertEquals("application/msword", upload(doc, null).getResumeContentType());
+	}
+
+	@Test
+	void rejectsUnknownContentBeforeStoringIt() throws Exception {
+		long filesBefore = storedFiles();
+		Long id = applicantService.createApplicant(TestApplicants.valid("sniff-reject@example.com")).getId();
+
+		byte[] script = "#!/bin/sh\necho not a resume\n".getBytes(StandardCharsets.US_ASCII);
+		mockMvc.perform(put(id, new MockMultipartFile("resume", "cv.pdf", "application/pdf", script)))
+				.andExpect(status().isBadRequest());
+		byte[] plainZip = zip("notes.txt");
+		mockMvc.perform(put(id, new MockMultipartFile("resume", "cv.docx", "application/zip", plainZip)))
+				.andExpect(status().isBadRequest());
+
+		// A submission with a bad resume is refused as a whole
+		mockMvc.perform(multipart("/api/applicants")
+						.file(new MockMultipartFile("resume", "cv.pdf", "application/pdf", script))
+						.param("firstName", "Bad")
+						.param("lastName", "Upload")
+						.param("age", "30")
+						.param("degree", "BSCS")
+						.param("relevantExperience", "None")
+						.param("email", "sniff-submit@example.com")
+						.param("projectAppliedFor", "Genealogy"))
+				.andExpect(status().isBadRequest());
+		assertFalse(applicantRepository.existsByEmail("sniff-submit@example.com"));
+
+		assertNull(applicantRepository.findById(id).orElseThrow().getResumeKey());
+		assertEquals(filesBefore, storedFiles());
+	}
+
+	@Test
+	void cutsOffOversizedUploads() throws Exception {
+		long filesBefore = storedFiles();
+		Long id = applicantService.createApplicant(TestApplicants.valid("sniff-large@example.com")).getId();
+
+		mockMvc.perform(put(id, new MockMultipartFile("resume", "cv.pdf", "application/pdf", pdf(65537, 'l'))))
+				.andExpect(status().isBadRequest());
+		assertNull(applicantRepository.findById(id).orElseThrow().getResumeKey());
+		assertEquals(filesBefore, storedFiles());
+
+		mockMvc.perform(put(id, new MockMultipartFile("resume", "cv.pdf", "application/pdf", pdf(65536, 'l'))))
+				.andExpect(status().isOk());
+	}
+
+	private Applicant upload(byte[] content, String declaredType) throws Exception {
+		Long id = applicantService.createApplicant(TestApplicants.valid("sniff-" + System.nanoTime() + "@example.com")).getId();
+		mockMvc.perform(put(id, new MockMultipartFile("resume", "resume.bin", declaredType, content)))
+				.andExpect(status().isOk());
+		return applicantRepository.findById(id).orElseThrow();
+	}
+
+	private static MockMultipartHttpServletRequestBuilder put(Long id, MockMultipartFile file) {
+		MockMultipartHttpServletRequestBuilder builder = multipart("/api/applicants/{id}/resume", id).file(file);
+		builder.with(request -> {
+			request.setMethod("PUT");
+			return request;
+		});
+		return builder;
+	}
+
+	private long storedFiles() throws Exception {
+		if (!Files.exists(storageDir)) {
+			return 0;
+		}
+		try (Stream<Path> files = Files.walk(storageDir)) {
+			return files.filter(Files::isRegularFile).count();
+		}
+	}
+
+	private static byte[] pdf(int size, char fill) {
+		byte[] bytes = new byte[size];
+		Arrays.fill(bytes, (byte) fill);
+		System.arraycopy("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), 0, bytes, 0, 9);
+		return bytes;
+	}
+
+	private static byte[] docx() throws Exception {
+		return zip("[Content_Types].xml", "word/document.xml");
+	}
+
+	private static byte[] zip(String... entries) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			for (String entry : entries) {
+				zip.putNextEntry(new ZipEntry(entry));
+				zip.write(("<xml>" + entry + "</xml>").getBytes(StandardCharsets.UTF_8));
+				zip.closeEntry();
+			}
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,125 @@
+package cabido.backend.controller;
+
+import cabido.backend.BackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares how many blocking requests the server handles at once with and without
+ * {@code spring.threads.virtual.enabled}. Each mode boots the real application on a
+ * random port with its own in-memory database and a deliberately small Tomcat pool,
+ * then fires a burst of concurrent requests at an endpoint that blocks like a slow
+ * JDBC or SMTP call would.
+ *
+ * <p>The default run uses a small burst; for a larger one with a printed report:
+ * <pre>
+ *   ./mvnw test -Dtest=VirtualThreadCapacityTests -Dbenchmark=true
+ * </pre>
+ */
+class VirtualThreadCapacityTests {
+
+	private static final int TOMCAT_THREADS = 8;
+	private static final long BLOCK_MS = 200;
+
+	private static final AtomicInteger inFlight = new AtomicInteger();
+	private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+	private record Run(String mode, int requests, long elapsedMs, int peak) {
+
+		double throughput() {
+			return requests * 1000.0 / elapsedMs;
+		}
+	}
+
+	@Test
+	void virtualThreadsServeMoreConcurrentBlockingRequests() throws Exception {
+		int requests = Boolean.getBoolean("benchmark") ? 1000 : 64;
+
+		Run platform = run(false, requests);
+		Run virtual = run(true, requests);
+
+		if (Boolean.getBoolean("benchmark")) {
+			System.out.printf("Blocking-request capacity (%d requests, %d ms each, %d Tomcat threads):%n",
+					requests, BLOCK_MS, TOMCAT_THREADS);
+			for (Run r : List.of(platform, virtual)) {
+				System.out.printf("  %-8s %6d ms  %8.1f req/s  peak in-flight %d%n",
+						r.mode(), r.elapsedMs(), r.throughput(), r.peak());
+			}
+		}
+
+		assertTrue(platform.peak() <= TOMCAT_THREADS, "platform peak " + platform.peak());
+		assertTrue(virtual.peak() > TOMCAT_THREADS * 2, "virtual peak " + virtual.peak());
+		assertTrue(virtual.elapsedMs() < platform.elapsedMs(), virtual + " vs " + platform);
+	}
+
+	private Run run(boolean virtualThreads, int requests) throws Exception {
+		String mode = virtualThreads ? "virtual" : "platform";
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class, BlockingEndpoint.class)
+				.properties(
+						"server.port=0",
+						"spring.threads.virtual.enabled=" + virtualThreads,
+						"server.tomcat.threads.max=" + TOMCAT_THREADS,
+						"server.tomcat.threads.min-spare=" + TOMCAT_THREADS,
+						"spring.datasource.url=jdbc:h2:mem:capacity-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"spring.jpa.show-sql=false",
+						"app.email.outbox.poll-interval-ms=3600000")
+				.run()) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			URI uri = URI.create("http://localhost:" + port + "/api/applicants/_capacity-probe");
+			HttpClient client = HttpClient.newBuilder().executor(Runnable::run).build();
+
+			// Warm up the connection path and the handler before measuring
+			client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+			peakInFlight.set(0);
+
+			long start = System.nanoTime();
+			List<CompletableFuture<HttpResponse<Void>>> pending = new ArrayList<>(requests);
+			for (int i = 0; i < requests; i++) {
+				pending.add(client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding()));
+			}
+			for (CompletableFuture<HttpResponse<Void>> f : pending) {
+				assertEquals(200, f.get().statusCode());
+			}
+			long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+			return new Run(mode, requests, elapsedMs, peakInFlight.get());
+		}
+	}
+
+	// Only registered by run(); @TestConfiguration keeps it out of other tests' component scan
+	@TestConfiguration
+	static class BlockingEndpoint {
+
+		@Bean
+		RouterFunction<ServerResponse> capacityProbe() {
+			return RouterFunctions.route()
+					.GET("/api/applicants/_capacity-probe", request -> {
+						peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+						try {
+							Thread.sleep(BLOCK_MS);
+						} finally {
+							inFlight.decrementAndGet();
+						}
+						return ServerResponse.ok().body(Thread.currentThread().isVirtual());
+					})
+					.build();
+		}
+	}
+}
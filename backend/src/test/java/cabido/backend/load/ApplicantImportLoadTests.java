@@ -0,0 +1,170 @@
+package cabido.backend.load;
+
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.service.AdminTokenService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Import throughput: the full application on a real port, with a generated file
+ * POSTed to {@code /api/admin/applicants/import} as an admin would, in CSV and in
+ * NDJSON. Each format gets an untimed warm-up import and then {@code load.import.runs}
+ * timed imports of {@code load.import.rows} new applicants into an emptied table.
+ *
+ * <p>The default run only checks that a few thousand rows import cleanly. For numbers:
+ * <pre>
+ *   ./mvnw test -Dtest=ApplicantImportLoadTests -Dbenchmark=true [-Dload.import.rows=200000] [-Dload.import.runs=5]
+ * </pre>
+ * Rows per second (median and best, wall clock on the client and as timed by the
+ * server) are printed and written to {@code target/import-load-test-report.json}
+ * (override with {@code -Dload.import.report}), together with the database the run
+ * used; see LoadDatabase for pointing it at MySQL.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.ratelimit.enabled=false"
+})
+class ApplicantImportLoadTests {
+
+	private static final boolean BENCHMARK = Boolean.getBoolean("benchmark");
+	private static final int ROWS = Integer.getInteger("load.import.rows", BENCHMARK ? 200_000 : 5_000);
+	private static final int RUNS = Integer.getInteger("load.import.runs", BENCHMARK ? 5 : 1);
+	private static final Path REPORT = Path.of(System.getProperty("load.import.report", "target/import-load-test-report.json"));
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		LoadDatabase.register(registry);
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Value("${spring.datasource.url}")
+	private String dataSourceUrl;
+
+	private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	private int batch;
+
+	@Test
+	void importThroughput() throws Exception {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("finishedAt", null);
+		report.put("database", LoadDatabase.describe(dataSource, dataSourceUrl));
+		report.put("rows", ROWS);
+		report.put("runs", RUNS);
+
+		System.out.printf("%n%-8s %8s %14s %14s %14s %14s%n", "format", "rows", "client p50/s", "client max/s", "server p50/s", "server max/s");
+		for (String format : List.of("csv", "ndjson")) {
+			importInto(format, Math.max(1, ROWS / 10));
+			List<Double> client = new ArrayList<>();
+			List<Double> server = new ArrayList<>();
+			for (int run = 0; run < RUNS; run++) {
+				long started = System.nanoTime();
+				JsonNode result = importInto(format, ROWS);
+				double seconds = (System.nanoTime() - started) / 1e9;
+				client.add(ROWS / seconds);
+				server.add(ROWS * 1000.0 / Math.max(1, result.get("durationMs").asLong()));
+			}
+			Map<String, Object> stats = new LinkedHashMap<>();
+			stats.put("clientRowsPerSecondMedian", median(client));
+			stats.put("clientRowsPerSecondBest", best(client));
+			stats.put("serverRowsPerSecondMedian", median(server));
+			stats.put("serverRowsPerSecondBest", best(server));
+			stats.put("clientRowsPerSecond", client);
+			report.put(format, stats);
+			System.out.printf("%-8s %8d %14.0f %14.0f %14.0f %14.0f%n", format, ROWS,
+					median(client), best(client), median(server), best(server));
+		}
+
+		report.put("finishedAt", Instant.now().toString());
+		Files.createDirectories(REPORT.toAbsolutePath().getParent());
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+		System.out.println("Import load test report written to " + REPORT.toAbsolutePath());
+	}
+
+	// Empties the table (untimed), then imports rows no earlier batch used
+	private JsonNode importInto(String format, int rows) throws Exception {
+		applicantRepository.deleteAllInBatch();
+		byte[] body = file(format, rows, ++batch);
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/admin/applicants/import?format=" + format))
+				.header("Authorization", "Bearer " + adminTokenService.issue(1L))
+				.header("Content-Type", "csv".equals(format) ? "text/csv" : "application/x-ndjson")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(body))
+				.build();
+		HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+		assertEquals(200, response.statusCode(), response.body());
+		JsonNode result = objectMapper.readTree(response.body());
+		assertEquals(rows, result.get("imported").asLong(), response.body());
+		return result;
+	}
+
+	private static byte[] file(String format, int rows, int batch) {
+		StringBuilder out = new StringBuilder(rows * 160);
+		if ("csv".equals(format)) {
+			out.append("First Name,Last Name,Age,Degree,Relevant Experience,Email,Project Applied For\n");
+		}
+		String[] projects = {"Genealogy", "Computer Vision", "Natural Language Processing", "AI Data Extraction"};
+		for (int i = 0; i < rows; i++) {
+			String email = "import" + batch + "-" + i + "@example.com";
+			String project = projects[i % projects.length];
+			int age = 18 + i % 40;
+			if ("csv".equals(format)) {
+				out.append("First").append(i).append(",Last").append(i).append(',').append(age)
+						.append(",BS Computer Science,\"Annotation, QA and tooling ").append(i).append("\",")
+						.append(email).append(',').append(project).append('\n');
+			} else {
+				out.append("{\"firstName\":\"First").append(i).append("\",\"lastName\":\"Last").append(i)
+						.append("\",\"age\":").append(age)
+						.append(",\"degree\":\"BS Computer Science\",\"relevantExperience\":\"Annotation, QA and tooling ").append(i)
+						.append("\",\"email\":\"").append(email).append("\",\"projectAppliedFor\":\"").append(project).append("\"}\n");
+			}
+		}
+		return out.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static double median(List<Double> values) {
+		double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+		int mid = sorted.length / 2;
+		return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+	}
+
+	private static double best(List<Double> values) {
+		return values.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+	}
+}
@@ -0,0 +1,274 @@
+package cabido.backend.load;
+
+import cabido.backend.service.AdminTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: the full application on a real port, H2 in MySQL mode as the
+ * database and GreenMail as the SMTP server, driven over HTTP by concurrent clients
+ * with a fixed mix of submissions (multipart, with resume), list/search/stats polling,
+ * approve/decline bursts and resume downloads. Every client uses its own seeded
+ * random, so the request mix is the same from run to run.
+ *
+ * <p>The default run is a few seconds long and only checks that the mix works
+ * end to end. For numbers worth comparing between releases:
+ * <pre>
+ *   ./mvnw test -Dtest=ApplicantLoadTests -Dbenchmark=true [-Dload.clients=32] [-Dload.seconds=60]
+ * </pre>
+ * Per-endpoint throughput and p50/p99 latency are printed and written to
+ * {@code target/load-test-report.json} (override with {@code -Dload.report}).
+ *
+ * <p>The database is H2 because no embedded MySQL engine is among the test
+ * dependencies, and H2 in MySQL mode keeps the run self-contained. Its locking,
+ * query planner and I/O differ from MySQL/InnoDB, so the report names the database
+ * it ran on and H2 numbers should only be compared with other H2 runs. To measure
+ * against MySQL, point the run at a scratch schema (see LoadDatabase):
+ * <pre>
+ *   ./mvnw test -Dtest=ApplicantLoadTests -Dbenchmark=true -Dload.db.url=jdbc:mysql://localhost:3306/loadtest \
+ *       -Dload.db.user=root -Dload.db.password=secret
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.mail.host=localhost",
+		"spring.mail.port=3025",
+		"app.email.pool.enabled=true",
+		"app.email.outbox.poll-interval-ms=250",
+		"app.ratelimit.enabled=false"
+})
+class ApplicantLoadTests {
+
+	private static final boolean BENCHMARK = Boolean.getBoolean("benchmark");
+	private static final int CLIENTS = Integer.getInteger("load.clients", BENCHMARK ? 32 : 4);
+	private static final int SECONDS = Integer.getInteger("load.seconds", BENCHMARK ? 60 : 3);
+	private static final int WARMUP_SECONDS = BENCHMARK ? 10 : 1;
+	private static final int SEED_APPLICANTS = BENCHMARK ? 500 : 30;
+	private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load-test-report.json"));
+
+	static final String SUBMIT = "POST /api/applicants";
+	static final String LIST = "GET /api/applicants";
+	static final String SEARCH = "GET /api/applicants/search";
+	static final String STATS = "GET /api/applicants/stats";
+	static final String BY_ID = "GET /api/applicants/{id}";
+	static final String APPROVE = "PUT /api/applicants/{id}/approve";
+	static final String DECLINE = "PUT /api/applicants/{id}/decline";
+	static final String DOWNLOAD = "GET /api/applicants/{id}/resume";
+
+	private static final String[] SEARCH_TERMS = {"annotation", "maria", "vision", "python", "genealogy", "lead"};
+	private static final String[] PROJECTS = {"Genealogy", "Computer Vision", "Natural Language Processing", "AI Data Extraction"};
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		LoadDatabase.register(registry);
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private AdminTokenService adminTokenService;
+
+	@Value("${spring.datasource.url}")
+	private String dataSourceUrl;
+
+	private final HttpClient http = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+
+	private final byte[] resume = pdf(64 * 1024);
+	private final List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+	private final AtomicInteger emailSequence = new AtomicInteger();
+
+	@Test
+	void mixedWorkload() throws Exception {
+		Random seedRandom = new Random(7);
+		for (int i = 0; i < SEED_APPLICANTS; i++) {
+			submit(seedRandom, new LoadReport());
+		}
+
+		runClients(WARMUP_SECONDS, 1000);
+		long started = System.nanoTime();
+		LoadReport report = runClients(SECONDS, 0);
+		double elapsed = (System.nanoTime() - started) / 1e9;
+
+		Map<String, Object> run = new LinkedHashMap<>();
+		run.put("database", LoadDatabase.describe(dataSource, dataSourceUrl));
+		run.put("clients", CLIENTS);
+		run.put("warmupSeconds", WARMUP_SECONDS);
+		run.put("seedApplicants", SEED_APPLICANTS);
+		run.put("emailsDelivered", greenMail.getReceivedMessages().length);
+		report.publish(REPORT, elapsed, run);
+
+		for (String endpoint : List.of(SUBMIT, LIST, SEARCH, STATS, BY_ID, APPROVE, DECLINE, DOWNLOAD)) {
+			assertTrue(report.requestCount(endpoint) > 0, "no " + endpoint + " requests");
+			assertEquals(0, report.errorCount(endpoint), endpoint + " errors");
+		}
+	}
+
+	private LoadReport runClients(int seconds, int seedOffset) throws Exception {
+		long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+		ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+		try {
+			List<Future<LoadReport>> clients = new ArrayList<>();
+			for (int c = 0; c < CLIENTS; c++) {
+				Random random = new Random(seedOffset + c);
+				clients.add(pool.submit(() -> client(random, deadline)));
+			}
+			LoadReport merged = new LoadReport();
+			for (Future<LoadReport> client : clients) {
+				merged.merge(client.get());
+			}
+			return merged;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	// Weights: 15% submit, 30% list, 15% search, 5% stats, 10% by id, 10% approve/decline burst, 15% download
+	private LoadReport client(Random random, long deadline) throws Exception {
+		LoadReport report = new LoadReport();
+		while (System.nanoTime() < deadline) {
+			int roll = random.nextInt(100);
+			if (roll < 15) {
+				submit(random, report);
+			} else if (roll < 45) {
+				String query = random.nextBoolean() ? "?limit=50" : "?limit=50&project=" + encode(PROJECTS[random.nextInt(PROJECTS.length)]);
+				call(report, LIST, get("/api/applicants" + query), 200);
+			} else if (roll < 60) {
+				call(report, SEARCH, get("/api/applicants/search?q=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]), 200);
+			} else if (roll < 65) {
+				call(report, STATS, HttpRequest.newBuilder(uri("/api/applicants/stats"))
+						.header("Authorization", "Bearer " + adminTokenService.issue(1L)).GET().build(), 200);
+			} else if (roll < 75) {
+				call(report, BY_ID, get("/api/applicants/" + anyId(random)), 200);
+			} else if (roll < 85) {
+				// A reviewer working through a handful of applicants in a row
+				for (int i = 0; i < 5; i++) {
+					boolean approve = random.nextBoolean();
+					String path = "/api/applicants/" + anyId(random) + (approve ? "/approve" : "/decline");
+					call(report, approve ? APPROVE : DECLINE,
+							HttpRequest.newBuilder(uri(path)).PUT(HttpRequest.BodyPublishers.noBody()).build(), 200);
+				}
+			} else {
+				call(report, DOWNLOAD, get("/api/applicants/" + anyId(random) + "/resume"), 200);
+			}
+		}
+		return report;
+	}
+
+	private void submit(Random random, LoadReport report) throws Exception {
+		int n = emailSequence.incrementAndGet();
+		String boundary = "----load" + Long.toHexString(random.nextLong());
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put("firstName", "Maria" + n);
+		fields.put("lastName", "Load");
+		fields.put("age", String.valueOf(18 + random.nextInt(40)));
+		fields.put("degree", "BS Computer Science");
+		fields.put("relevantExperience", "Data annotation lead, Python tooling and QA for vision datasets #" + n);
+		fields.put("email", "load" + n + "@example.com");
+		fields.put("projectAppliedFor", PROJECTS[random.nextInt(PROJECTS.length)]);
+
+		HttpRequest request = HttpRequest.newBuilder(uri("/api/applicants"))
+				.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+				.POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, fields, resume)))
+				.build();
+		HttpResponse<String> response = call(report, SUBMIT, request, 201);
+		if (response != null && response.statusCode() == 201) {
+			ids.add(objectMapper.readTree(response.body()).get("id").asLong());
+		}
+	}
+
+	private HttpResponse<String> call(LoadReport report, String endpoint, HttpRequest request, int expectedStatus) {
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+			report.record(endpoint, System.nanoTime() - start, response.statusCode() == expectedStatus);
+			return response;
+		} catch (Exception e) {
+			report.record(endpoint, System.nanoTime() - start, false);
+			return null;
+		}
+	}
+
+	private long anyId(Random random) {
+		synchronized (ids) {
+			return ids.get(random.nextInt(ids.size()));
+		}
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(uri(path)).GET().build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static String encode(String value) {
+		return java.net.URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] multipart(String boundary, Map<String, String> fields, byte[] file) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(file.length + 2048);
+		fields.forEach((name, value) -> out.writeBytes(("--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+				+ value + "\r\n").getBytes(StandardCharsets.UTF_8)));
+		out.writeBytes(("--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"resume\"; filename=\"resume.pdf\"\r\n"
+				+ "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+		out.writeBytes(file);
+		out.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		return out.toByteArray();
+	}
+
+	// Valid-looking PDF header followed by filler, the size of a typical one-page resume
+	private static byte[] pdf(int size) {
+		byte[] bytes = new byte[size];
+		new Random(1).nextBytes(bytes);
+		byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+		System.arraycopy(header, 0, bytes, 0, header.length);
+		return bytes;
+	}
+}
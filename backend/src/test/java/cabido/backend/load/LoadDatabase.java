@@ -0,0 +1,41 @@
+package cabido.backend.load;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * The database a load test runs on. H2 in MySQL mode unless {@code -Dload.db.url}
+ * (with {@code load.db.user} and {@code load.db.password}) points the run at a scratch
+ * MySQL schema, whose tables are dropped and recreated. Reports name the database,
+ * so H2 numbers are only ever compared with other H2 runs.
+ */
+final class LoadDatabase {
+
+	private static final String URL = System.getProperty("load.db.url");
+
+	private LoadDatabase() {
+	}
+
+	static void register(DynamicPropertyRegistry registry) {
+		if (URL == null) {
+			return;
+		}
+		registry.add("spring.datasource.url", () -> URL);
+		registry.add("spring.datasource.username", () -> System.getProperty("load.db.user", "root"));
+		registry.add("spring.datasource.password", () -> System.getProperty("load.db.password", ""));
+		registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+	}
+
+	// e.g. "H2 2.3.232 (2024-08-11) (MySQL mode)", so H2 and MySQL reports are never mixed up
+	static String describe(DataSource dataSource, String url) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			DatabaseMetaData meta = connection.getMetaData();
+			String description = meta.getDatabaseProductName() + " " + meta.getDatabaseProductVersion();
+			return url.contains("MODE=MySQL") ? description + " (MySQL mode)" : description;
+		}
+	}
+}
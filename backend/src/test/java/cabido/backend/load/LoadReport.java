@@ -0,0 +1,109 @@
+package cabido.backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency samples per endpoint, recorded by one load client each and merged at the
+ * end, so recording never contends between clients. Percentiles are nearest-rank over
+ * every sample, not estimates.
+ */
+class LoadReport {
+
+	private final Map<String, long[]> samples = new TreeMap<>();
+	private final Map<String, Integer> counts = new TreeMap<>();
+	private final Map<String, Integer> errors = new TreeMap<>();
+
+	void record(String endpoint, long nanos, boolean ok) {
+		long[] values = samples.computeIfAbsent(endpoint, e -> new long[1024]);
+		int count = counts.getOrDefault(endpoint, 0);
+		if (count == values.length) {
+			values = Arrays.copyOf(values, count * 2);
+			samples.put(endpoint, values);
+		}
+		values[count] = nanos;
+		counts.put(endpoint, count + 1);
+		if (!ok) {
+			errors.merge(endpoint, 1, Integer::sum);
+		}
+	}
+
+	void merge(LoadReport other) {
+		other.counts.forEach((endpoint, count) -> {
+			long[] values = other.samples.get(endpoint);
+			for (int i = 0; i < count; i++) {
+				record(endpoint, values[i], true);
+			}
+		});
+		other.errors.forEach((endpoint, n) -> errors.merge(endpoint, n, Integer::sum));
+	}
+
+	int errorCount(String endpoint) {
+		return errors.getOrDefault(endpoint, 0);
+	}
+
+	int requestCount(String endpoint) {
+		return counts.getOrDefault(endpoint, 0);
+	}
+
+	List<EndpointStats> stats(double seconds) {
+		List<EndpointStats> result = new ArrayList<>();
+		counts.forEach((endpoint, count) -> {
+			long[] sorted = Arrays.copyOf(samples.get(endpoint), count);
+			Arrays.sort(sorted);
+			result.add(new EndpointStats(endpoint, count, errorCount(endpoint), count / seconds,
+					millis(percentile(sorted, 50)), millis(percentile(sorted, 99)), millis(sorted[count - 1])));
+		});
+		return result;
+	}
+
+	/**
+	 * Prints a table and writes the same numbers as JSON, so runs on different releases
+	 * can be diffed or charted.
+	 */
+	void publish(Path jsonFile, double seconds, Map<String, Object> run) throws IOException {
+		List<EndpointStats> stats = stats(seconds);
+		long total = stats.stream().mapToLong(EndpointStats::requests).sum();
+
+		System.out.printf("%n%-34s %9s %7s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+		for (EndpointStats s : stats) {
+			System.out.printf("%-34s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+					s.endpoint(), s.requests(), s.errors(), s.throughput(), s.p50Ms(), s.p99Ms(), s.maxMs());
+		}
+		System.out.printf("%-34s %9d %7s %10.1f%n", "total", total, "", total / seconds);
+
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("finishedAt", Instant.now().toString());
+		json.putAll(run);
+		json.put("durationSeconds", seconds);
+		json.put("totalRequests", total);
+		json.put("totalThroughput", total / seconds);
+		json.put("endpoints", stats);
+		Files.createDirectories(jsonFile.toAbsolutePath().getParent());
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(jsonFile.toFile(), json);
+		System.out.println("Load test report written to " + jsonFile.toAbsolutePath());
+	}
+
+	private static long percentile(long[] sorted, int p) {
+		int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	record EndpointStats(String endpoint, long requests, long errors, double throughput, double p50Ms, double p99Ms, double maxMs) {
+	}
+}
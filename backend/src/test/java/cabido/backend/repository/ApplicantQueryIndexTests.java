@@ -0,0 +1,105 @@
+package cabido.backend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smoke check of the query plan for every filter combination and whitelisted sort
+ * accepted by GET /api/applicants/query. It runs on the test database only (H2 in MySQL
+ * mode), whose optimizer is not MySQL's: a pass shows each filter has an index to seek
+ * on, not that MySQL will pick it. H2 annotates the chosen access path as
+ * {@code /* public.index_name: condition *}{@code /}; a plan without an index lookup
+ * condition (a table scan, or a full walk of the sort index) means a filter is missing
+ * its index on {@code Applicant}.
+ */
+@SpringBootTest
+class ApplicantQueryIndexTests {
+
+	// Index access with a seek/range condition, as opposed to "tableScan" or a bare ordered index walk
+	private static final Pattern INDEX_LOOKUP = Pattern.compile("/\\* public\\.idx_[a-z0-9_]+: ");
+
+	private static final String[] FILTERS = {
+			"project_applied_for = 'Genealogy'",
+			"status = 'pending'",
+			"degree = 'BSCS'",
+			"age between 20 and 30",
+			"created_at >= timestamp '2024-01-01 00:00:00' and created_at < timestamp '2024-02-01 00:00:00'"
+	};
+
+	// ApplicantService.QUERY_SORT_FIELDS, each with the id tie-breaker it is issued with
+	private static final String[] SORTS = {
+			"created_at desc, id desc",
+			"age asc, id asc",
+			"last_name asc, id asc",
+			"status desc, id desc"
+	};
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("delete from applicants");
+		List<Object[]> rows = new ArrayList<>();
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		String[] projects = {"Genealogy", "Computer Vision", "Data Annotation", "Voice AI"};
+		String[] statuses = {"pending", "approved", "declined"};
+		String[] degrees = {"BSCS", "BSIT", "BSEE", "BSN", "BSA"};
+		for (int i = 0; i < 2000; i++) {
+			rows.add(new Object[]{
+					1_000_000L + i, "First" + i, "Last" + i, 18 + (i % 50), degrees[i % degrees.length], "Experience " + i,
+					"plan" + i + "@example.com", projects[i % projects.length], statuses[i % statuses.length],
+					Timestamp.valueOf(base.plusHours(i)), Timestamp.valueOf(base.plusHours(i))
+			});
+		}
+		jdbcTemplate.batchUpdate("insert into applicants (id, first_name, last_name, age, degree, relevant_experience, email, "
+				+ "project_applied_for, status, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		jdbcTemplate.execute("analyze");
+	}
+
+	@Test
+	void everyFilterCombinationUsesAnIndexUnderEverySort() {
+		List<String> misses = new ArrayList<>();
+		for (String sort : SORTS) {
+			for (int mask = 1; mask < (1 << FILTERS.length); mask++) {
+				List<String> predicates = new ArrayList<>();
+				for (int f = 0; f < FILTERS.length; f++) {
+					if ((mask & (1 << f)) != 0) {
+						predicates.add(FILTERS[f]);
+					}
+				}
+				String sql = "select id, first_name, last_name, email, degree, project_applied_for, status, created_at "
+						+ "from applicants where " + String.join(" and ", predicates)
+						+ " order by " + sort + " limit 51";
+				String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+				if (!INDEX_LOOKUP.matcher(plan.toLowerCase()).find()) {
+					misses.add(String.join(" and ", predicates) + " order by " + sort + "\n" + plan);
+				}
+			}
+		}
+		assertTrue(misses.isEmpty(), "No index lookup for:\n" + String.join("\n\n", misses));
+	}
+
+	@Test
+	void filterIndexesAreDeclaredOnTheEntity() {
+		List<String> indexes = jdbcTemplate.queryForList(
+				"select index_name from information_schema.indexes where table_name = 'applicants'", String.class);
+		List<String> normalized = indexes.stream().map(String::toLowerCase).toList();
+		assertTrue(normalized.contains("idx_applicants_project_status_created"));
+		assertTrue(normalized.contains("idx_applicants_status_created"));
+		assertTrue(normalized.contains("idx_applicants_age"));
+		assertTrue(normalized.contains("idx_applicants_degree"));
+		assertTrue(normalized.contains("idx_applicants_created_at_id"));
+	}
+}
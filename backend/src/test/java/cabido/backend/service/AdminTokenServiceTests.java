@@ -0,0 +1,83 @@
+package cabido.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminTokenServiceTests {
+
+	private static final String OLD_KEY = "2024:" + Base64.getEncoder().encodeToString("old-secret-old-secret-old-secret".getBytes());
+	private static final String NEW_KEY = "2025:" + Base64.getEncoder().encodeToString("new-secret-new-secret-new-secret".getBytes());
+
+	private AdminTokenService service(String keys, String activeKeyId, long ttlMinutes) {
+		AdminTokenService service = new AdminTokenService();
+		ReflectionTestUtils.setField(service, "configuredKeys", keys);
+		ReflectionTestUtils.setField(service, "configuredActiveKeyId", activeKeyId);
+		ReflectionTestUtils.setField(service, "ttlMinutes", ttlMinutes);
+		service.init();
+		return service;
+	}
+
+	@Test
+	void verifiesIssuedTokenAndRejectsTampering() {
+		AdminTokenService service = service(OLD_KEY, "", 60);
+		String token = service.issue(42L);
+
+		AdminTokenService.AdminPrincipal principal = service.verify(token).orElseThrow();
+		assertEquals(42L, principal.adminId());
+		assertEquals("2024", principal.keyId());
+
+		char last = token.charAt(token.length() - 1);
+		String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+		assertTrue(service.verify(tampered).isEmpty());
+		String[] parts = token.split("\\.");
+		String otherPayload = service.issue(7L).split("\\.")[1];
+		assertTrue(service.verify(parts[0] + "." + otherPayload + "." + parts[2]).isEmpty());
+		assertTrue(service.verify("garbage").isEmpty());
+		assertTrue(service.verify("2024.%%%.###").isEmpty());
+	}
+
+	@Test
+	void rejectsExpiredTokens() {
+		AdminTokenService service = service(OLD_KEY, "", 0);
+		assertTrue(service.verify(service.issue(1L)).isEmpty());
+	}
+
+	@Test
+	void rotationKeepsOlderTokensValidUntilTheirKeyIsRemoved() {
+		AdminTokenService before = service(OLD_KEY, "2024", 60);
+		String oldToken = before.issue(1L);
+
+		AdminTokenService rotated = service(OLD_KEY + "," + NEW_KEY, "2025", 60);
+		String newToken = rotated.issue(1L);
+		assertTrue(newToken.startsWith("2025."));
+		assertTrue(rotated.verify(oldToken).isPresent());
+		assertTrue(rotated.verify(newToken).isPresent());
+
+		AdminTokenService retired = service(NEW_KEY, "", 60);
+		assertTrue(retired.verify(oldToken).isEmpty());
+		assertTrue(retired.verify(newToken).isPresent());
+
+		String generated = retired.rotateKey();
+		assertEquals(generated, retired.getActiveKeyId());
+		assertTrue(retired.issue(1L).startsWith(generated + "."));
+		assertTrue(retired.verify(newToken).isPresent());
+	}
+
+	@Test
+	void revokedTokensStayRejectedUntilPurgedAfterExpiry() {
+		AdminTokenService service = service(OLD_KEY, "", 60);
+		String token = service.issue(5L);
+		String other = service.issue(5L);
+
+		service.revoke(service.verify(token).orElseThrow());
+		assertTrue(service.verify(token).isEmpty());
+		assertTrue(service.verify(other).isPresent());
+
+		service.purgeExpiredRevocations();
+		assertEquals(1, service.revokedCount());
+	}
+}
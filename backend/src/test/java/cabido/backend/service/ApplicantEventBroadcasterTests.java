@@ -0,0 +1,129 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.event.ApplicantChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicantEventBroadcasterTests {
+
+	private final CountDownLatch writerBlocked = new CountDownLatch(1);
+	private ThreadPoolTaskExecutor executor;
+	private ApplicantEventBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.initialize();
+		// Occupy the only writer so queued events cannot drain, like a stalled client
+		executor.execute(() -> {
+			try {
+				writerBlocked.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		broadcaster = new ApplicantEventBroadcaster();
+		ReflectionTestUtils.setField(broadcaster, "executor", executor);
+		ReflectionTestUtils.setField(broadcaster, "bufferSize", 2);
+		ReflectionTestUtils.setField(broadcaster, "replaySize", 10);
+		ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 2);
+		ReflectionTestUtils.setField(broadcaster, "timeoutMs", 60_000L);
+		ReflectionTestUtils.setField(broadcaster, "writeTimeoutMs", 1_000L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		writerBlocked.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void evictsSubscriberWhoseBufferOverflows() {
+		broadcaster.subscribe(null);
+		assertEquals(1, broadcaster.subscriberCount());
+
+		publish(1L);
+		publish(2L);
+		assertEquals(1, broadcaster.subscriberCount());
+
+		publish(3L);
+		assertEquals(0, broadcaster.subscriberCount());
+		assertEquals(3, broadcaster.lastEventId());
+	}
+
+	@Test
+	void rejectsSubscribersBeyondTheLimit() {
+		broadcaster.subscribe(null);
+		broadcaster.subscribe(null);
+		assertThrows(RuntimeException.class, () -> broadcaster.subscribe(null));
+	}
+
+	@Test
+	void evictsSubscriberStuckInAWritePastTheDeadline() {
+		broadcaster.subscribe(null);
+		broadcaster.subscribe(null);
+		Set<?> subscribers = (Set<?>) ReflectionTestUtils.getField(broadcaster, "subscribers");
+		Iterator<?> it = subscribers.iterator();
+		Object stuck = it.next();
+		Object writing = it.next();
+		ReflectionTestUtils.setField(stuck, "writeStartedAt", System.nanoTime() - TimeUnit.SECONDS.toNanos(5));
+		ReflectionTestUtils.setField(writing, "writeStartedAt", System.nanoTime());
+
+		broadcaster.heartbeat();
+
+		assertEquals(1, broadcaster.subscriberCount());
+		assertTrue(subscribers.contains(writing));
+	}
+
+	@Test
+	void dropsSubscriberWhenEveryWriterIsTaken() {
+		ThreadPoolTaskExecutor saturated = new ThreadPoolTaskExecutor();
+		saturated.setCorePoolSize(1);
+		saturated.setMaxPoolSize(1);
+		saturated.setQueueCapacity(0);
+		saturated.initialize();
+		try {
+			saturated.execute(() -> {
+				try {
+					writerBlocked.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			ReflectionTestUtils.setField(broadcaster, "executor", saturated);
+			broadcaster.subscribe(null);
+
+			assertDoesNotThrow(() -> publish(1L));
+			assertEquals(0, broadcaster.subscriberCount());
+
+			// Later changes and new subscribers are unaffected
+			assertDoesNotThrow(() -> publish(2L));
+			assertEquals(2, broadcaster.lastEventId());
+			assertDoesNotThrow(() -> broadcaster.subscribe(1L));
+			assertEquals(0, broadcaster.subscriberCount());
+		} finally {
+			writerBlocked.countDown();
+			saturated.shutdown();
+		}
+	}
+
+	private void publish(Long id) {
+		ApplicantDTO after = new ApplicantDTO();
+		after.setId(id);
+		broadcaster.onApplicantChanged(new ApplicantChangedEvent(ApplicantChangedEvent.Type.CREATED, id, null, after));
+	}
+}
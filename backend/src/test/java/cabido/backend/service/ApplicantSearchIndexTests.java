@@ -0,0 +1,112 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.entity.Applicant;
+import cabido.backend.repository.ApplicantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicantSearchIndexTests {
+
+	private ApplicantSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ApplicantSearchIndex();
+		index.index(applicant(1L, "John", "Johnson", "jj@example.com", "BS Computer Science", "Python and computer vision pipelines"));
+		index.index(applicant(2L, "Maria", "Santos", "maria.santos@example.com", "BS Statistics", "Worked with John on data labeling"));
+		index.index(applicant(3L, "Pedro", "Reyes", "pedro@example.com", "BS Information Technology", "Customer service automation"));
+	}
+
+	@Test
+	void ranksNameHitsAboveExperienceHits() {
+		List<ApplicantSearchIndex.Hit> hits = index.search("john", 0, 10).hits();
+		assertEquals(2, hits.size());
+		assertEquals(1L, hits.get(0).id());
+		assertEquals(2L, hits.get(1).id());
+	}
+
+	@Test
+	void matchesPrefixesAndInfixes() {
+		assertEquals(List.of(2L), ids(index.search("sant", 0, 10)));
+		assertEquals(List.of(1L), ids(index.search("hnson", 0, 10)));
+		assertEquals(List.of(3L), ids(index.search("automat", 0, 10)));
+	}
+
+	@Test
+	void requiresEveryTokenAndPages() {
+		assertEquals(List.of(1L), ids(index.search("john python", 0, 10)));
+		ApplicantSearchIndex.Result page = index.search("bs", 1, 2);
+		assertEquals(3, page.total());
+		assertEquals(1, page.hits().size());
+	}
+
+	@Test
+	void reflectsUpdatesAndDeletes() {
+		index.index(applicant(2L, "Maria", "Cruz", "maria.cruz@example.com", "BS Statistics", "Survey analysis"));
+		assertTrue(index.search("santos", 0, 10).hits().isEmpty());
+		assertEquals(List.of(2L), ids(index.search("cruz", 0, 10)));
+
+		index.remove(2L);
+		assertTrue(index.search("maria", 0, 10).hits().isEmpty());
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	void rebuildLeavesTheIndexUsableAndKeepsChangesMadeMeanwhile() {
+		ApplicantRepository repository = mock(ApplicantRepository.class);
+		ReflectionTestUtils.setField(index, "applicantRepository", repository);
+		when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(), eq(Applicant.class))).thenAnswer(invocation -> {
+			// Another thread can still search while the table is being walked
+			List<Long> found = CompletableFuture.supplyAsync(() -> ids(index.search("pedro", 0, 10))).get(5, TimeUnit.SECONDS);
+			assertEquals(List.of(3L), found);
+			// Committed while the walk runs, after it already read the old rows
+			index.index(applicant(1L, "John", "Garcia", "jg@example.com", "BS Computer Science", "Robotics"));
+			index.remove(3L);
+			return List.of(entity(1L, "John", "Johnson"), entity(2L, "Maria", "Santos"), entity(3L, "Pedro", "Reyes"));
+		});
+
+		index.rebuild();
+
+		assertEquals(2, index.size());
+		assertEquals(List.of(1L), ids(index.search("garcia", 0, 10)));
+		assertTrue(index.search("johnson", 0, 10).hits().isEmpty());
+		assertTrue(index.search("pedro", 0, 10).hits().isEmpty());
+		assertEquals(List.of(2L), ids(index.search("santos", 0, 10)));
+	}
+
+	private static Applicant entity(Long id, String first, String last) {
+		Applicant a = new Applicant();
+		a.setId(id);
+		a.setFirstName(first);
+		a.setLastName(last);
+		a.setEmail(first.toLowerCase() + "@example.com");
+		return a;
+	}
+
+	private static List<Long> ids(ApplicantSearchIndex.Result result) {
+		return result.hits().stream().map(ApplicantSearchIndex.Hit::id).toList();
+	}
+
+	private static ApplicantDTO applicant(Long id, String first, String last, String email, String degree, String experience) {
+		ApplicantDTO dto = new ApplicantDTO();
+		dto.setId(id);
+		dto.setFirstName(first);
+		dto.setLastName(last);
+		dto.setEmail(email);
+		dto.setDegree(degree);
+		dto.setRelevantExperience(experience);
+		return dto;
+	}
+}
@@ -0,0 +1,131 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantFilterDTO;
+import cabido.backend.dto.ApplicantPageDTO;
+import cabido.backend.dto.ApplicantQueryResultDTO;
+import cabido.backend.dto.ApplicantSearchPageDTO;
+import cabido.backend.dto.ApplicantSummaryDTO;
+import cabido.backend.repository.ApplicantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+class ApplicantServicePagingTests {
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@BeforeEach
+	void setUp() {
+		applicantRepository.deleteAll();
+		for (int i = 0; i < 7; i++) {
+			ApplicantDTO dto = new ApplicantDTO();
+			dto.setFirstName("First" + i);
+			dto.setLastName("Last" + i);
+			dto.setAge(20 + i);
+			dto.setDegree("BSCS");
+			dto.setRelevantExperience("Experience " + i);
+			dto.setEmail("paging" + i + "@example.com");
+			dto.setProjectAppliedFor(i % 2 == 0 ? "Genealogy" : "Computer Vision");
+			applicantService.createApplicant(dto);
+		}
+	}
+
+	@Test
+	void walksEveryRowExactlyOnceInKeysetOrder() {
+		List<ApplicantSummaryDTO> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			ApplicantPageDTO page = applicantService.getApplicantsPage(cursor, 3, null, null);
+			assertTrue(page.getItems().size() <= 3);
+			seen.addAll(page.getItems());
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(3, pages);
+		assertEquals(7, seen.size());
+		Set<Long> ids = new HashSet<>();
+		seen.forEach(a -> ids.add(a.getId()));
+		assertEquals(7, ids.size());
+		for (int i = 1; i < seen.size(); i++) {
+			ApplicantSummaryDTO prev = seen.get(i - 1);
+			ApplicantSummaryDTO cur = seen.get(i);
+			int cmp = prev.getCreatedAt().compareTo(cur.getCreatedAt());
+			assertTrue(cmp > 0 || (cmp == 0 && prev.getId() > cur.getId()));
+		}
+	}
+
+	@Test
+	void appliesProjectFilterAndClampsLimit() {
+		ApplicantPageDTO page = applicantService.getApplicantsPage(null, 10_000, null, "Genealogy");
+		assertEquals(ApplicantService.MAX_PAGE_SIZE, page.getLimit());
+		assertEquals(4, page.getItems().size());
+		assertNull(page.getNextCursor());
+		assertTrue(page.getItems().stream().allMatch(a -> "Genealogy".equals(a.getProjectAppliedFor())));
+		// Summary rows carry a bounded preview instead of the full experience text
+		assertTrue(page.getItems().stream().allMatch(a -> a.getRelevantExperiencePreview().startsWith("Experience ")));
+		assertTrue(page.getItems().stream().noneMatch(ApplicantSummaryDTO::getHasResume));
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		assertThrows(RuntimeException.class, () -> applicantService.getApplicantsPage("not-a-cursor", null, null, null));
+	}
+
+	@Test
+	void queryCombinesFiltersAndSortsByAge() {
+		ApplicantFilterDTO filter = new ApplicantFilterDTO("Genealogy", "pending", "BSCS", 21, 26, null, null);
+		ApplicantQueryResultDTO first = applicantService.queryApplicants(filter, "age,asc", 0, 2);
+		// Genealogy rows are i = 0, 2, 4, 6 with age 20 + i; the range keeps 22, 24 and 26
+		assertEquals(List.of("Last2", "Last4"), first.getItems().stream().map(ApplicantSummaryDTO::getLastName).toList());
+		assertTrue(first.isHasNext());
+		assertEquals("age,asc", first.getSort());
+
+		ApplicantQueryResultDTO second = applicantService.queryApplicants(filter, "age,asc", 1, 2);
+		assertEquals(1, second.getItems().size());
+		assertEquals("Last6", second.getItems().get(0).getLastName());
+		assertFalse(second.isHasNext());
+	}
+
+	@Test
+	void queryRejectsUnknownSortAndInvertedRanges() {
+		ApplicantFilterDTO empty = new ApplicantFilterDTO();
+		assertThrows(RuntimeException.class, () -> applicantService.queryApplicants(empty, "relevantExperience", 0, null));
+		ApplicantFilterDTO inverted = new ApplicantFilterDTO(null, null, null, 30, 20, null, null);
+		assertThrows(RuntimeException.class, () -> applicantService.queryApplicants(inverted, null, 0, null));
+	}
+
+	@Test
+	void searchPagesInTheDatabaseWhileTheIndexLoads() {
+		Object index = ReflectionTestUtils.getField(applicantService, "searchIndex");
+		ReflectionTestUtils.setField(applicantService, "searchIndex", mock(ApplicantSearchIndex.class));
+		try {
+			ApplicantSearchPageDTO first = applicantService.searchApplicants("Last", 0, 3);
+			ApplicantSearchPageDTO last = applicantService.searchApplicants("Last", 2, 3);
+
+			assertEquals(7, first.getTotal());
+			assertEquals(List.of("Last6", "Last5", "Last4"), first.getItems().stream().map(ApplicantSummaryDTO::getLastName).toList());
+			assertEquals(List.of("Last0"), last.getItems().stream().map(ApplicantSummaryDTO::getLastName).toList());
+			assertEquals(7, last.getTotal());
+		} finally {
+			ReflectionTestUtils.setField(applicantService, "searchIndex", index);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package cabido.backend.service;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantStatsDTO;
+import cabido.backend.repository.ApplicantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ApplicantStatsCounterTests {
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private ApplicantStatsCounter statsCounter;
+
+	@BeforeEach
+	void setUp() {
+		applicantRepository.deleteAll();
+		statsCounter.rebuild();
+	}
+
+	@Test
+	void incrementalCountsMatchAFreshGroupBy() {
+		Long a = create("stats-a@example.com", "Genealogy").getId();
+		Long b = create("stats-b@example.com", "Genealogy").getId();
+		Long c = create("stats-c@example.com", "Computer Vision").getId();
+		create("stats-d@example.com", "Computer Vision");
+
+		applicantService.approveApplicant(a);
+		applicantService.updateStatusBatch(List.of(b, c), "rejected");
+		applicantService.deleteApplicant(c);
+
+		ApplicantStatsDTO incremental = statsCounter.snapshot();
+		assertEquals(3, incremental.getTotal());
+		assertEquals(Map.of("approved", 1L, "rejected", 1L), incremental.getByProjectAndStatus().get("Genealogy"));
+		assertEquals(Map.of("pending", 1L), incremental.getByProjectAndStatus().get("Computer Vision"));
+		assertEquals(Map.of("approved", 1L, "pending", 1L, "rejected", 1L), incremental.getByStatus());
+		assertEquals(3, incremental.getCreatedToday());
+		assertEquals(3, incremental.getCreatedLast7Days());
+		assertEquals(ApplicantStatsCounter.RECENT_DAYS, incremental.getDailyIntake().size());
+		assertEquals(3L, incremental.getDailyIntake().get(LocalDate.now().toString()));
+
+		statsCounter.rebuild();
+		assertEquals(incremental, statsCounter.snapshot());
+	}
+
+	private ApplicantDTO create(String email, String project) {
+		ApplicantDTO dto = TestApplicants.valid(email);
+		dto.setProjectAppliedFor(project);
+		return applicantService.createApplicant(dto);
+	}
+}
@@ -0,0 +1,65 @@
+package cabido.backend.service;
+
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.dto.ApplicantSuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicantSuggestionIndexTests {
+
+	private ApplicantSuggestionIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ApplicantSuggestionIndex();
+		index.put(applicant(1L, "Maria", "Santos", "msantos@example.com"));
+		index.put(applicant(2L, "Mario", "Reyes", "mario.r@example.com"));
+		index.put(applicant(3L, "Ana", "Mariano", "ana@example.com"));
+	}
+
+	@Test
+	void matchesFirstNameLastNameAndEmailPrefixes() {
+		// Key order: "maria santos", "mariano ana", "mario reyes"
+		assertEquals(List.of(1L, 3L, 2L), ids(index.suggest("mari", 10)));
+		assertEquals(List.of(3L), ids(index.suggest("Mariano A", 10)));
+		assertEquals(List.of(1L), ids(index.suggest("msan", 10)));
+		assertEquals("Maria Santos", index.suggest("santos", 1).get(0).getDisplayName());
+		assertTrue(index.suggest("zzz", 10).isEmpty());
+	}
+
+	@Test
+	void honoursLimitAndDeduplicatesIds() {
+		assertEquals(1, index.suggest("m", 1).size());
+		// "mario reyes" and "mario.r@..." both match but the applicant appears once
+		assertEquals(List.of(2L), ids(index.suggest("mario", 10)));
+	}
+
+	@Test
+	void followsRenamesAndDeletes() {
+		index.put(applicant(2L, "Marco", "Reyes", "marco.r@example.com"));
+		assertTrue(index.suggest("mario", 10).isEmpty());
+		assertEquals(List.of(2L), ids(index.suggest("marco", 10)));
+
+		index.remove(1L);
+		assertTrue(index.suggest("santos", 10).isEmpty());
+		assertTrue(index.suggest("msantos", 10).isEmpty());
+		assertEquals(2, index.size());
+	}
+
+	private static List<Long> ids(List<ApplicantSuggestionDTO> suggestions) {
+		return suggestions.stream().map(ApplicantSuggestionDTO::getId).toList();
+	}
+
+	private static ApplicantDTO applicant(Long id, String first, String last, String email) {
+		ApplicantDTO dto = new ApplicantDTO();
+		dto.setId(id);
+		dto.setFirstName(first);
+		dto.setLastName(last);
+		dto.setEmail(email);
+		return dto;
+	}
+}
@@ -0,0 +1,99 @@
+package cabido.backend.service;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.repository.ApplicantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.email.outbox.poll-interval-ms=3600000")
+class CachedApplicantReaderTests {
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private CachedApplicantReader cachedReader;
+
+	@Test
+	void servesRepeatReadsFromCacheAndEvictsOnChange() {
+		applicantRepository.deleteAll();
+		ApplicantDTO dto = TestApplicants.valid("cache@example.com");
+		dto.setProjectAppliedFor("Computer Vision");
+		Long id = applicantService.createApplicant(dto).getId();
+
+		CaffeineCache byId = (CaffeineCache) cacheManager.getCache(CachedApplicantReader.APPLICANT_BY_ID);
+		long hitsBefore = byId.getNativeCache().stats().hitCount();
+
+		assertEquals("pending", applicantService.getApplicantById(id).orElseThrow().getStatus());
+		assertEquals("pending", applicantService.getApplicantById(id).orElseThrow().getStatus());
+		assertEquals(hitsBefore + 1, byId.getNativeCache().stats().hitCount());
+
+		applicantService.approveApplicant(id);
+		assertNull(byId.get(id));
+		assertEquals("approved", applicantService.getApplicantById(id).orElseThrow().getStatus());
+		assertEquals(1, applicantService.getApplicantsByProject("Computer Vision").size());
+
+		applicantService.deleteApplicant(id);
+		assertTrue(applicantService.getApplicantById(id).isEmpty());
+		assertTrue(applicantService.getApplicantsByProject("Computer Vision").isEmpty());
+	}
+
+	@Test
+	void dropsALoadThatRacedAChange() {
+		applicantRepository.deleteAll();
+		ApplicantDTO dto = TestApplicants.valid("cache-race@example.com");
+		dto.setProjectAppliedFor("Computer Vision");
+		Long id = applicantService.createApplicant(dto).getId();
+		CaffeineCache byId = (CaffeineCache) cacheManager.getCache(CachedApplicantReader.APPLICANT_BY_ID);
+
+		// The load read the old row, then a commit evicted before the load's put
+		CachedApplicantReader.CachedApplicant stale = cachedReader.read(CachedApplicantReader.APPLICANT_BY_ID, id, () -> {
+			CachedApplicantReader.CachedApplicant old = CachedApplicantReader.CachedApplicant.from(applicantRepository.findById(id).orElseThrow());
+			applicantService.updateStatus(id, "approved");
+			return old;
+		});
+		assertEquals("pending", stale.status());
+		assertNull(byId.get(id));
+		assertEquals("approved", applicantService.getApplicantById(id).orElseThrow().getStatus());
+		assertInstanceOf(CachedApplicantReader.CachedApplicant.class, byId.get(id).get());
+	}
+
+	@Test
+	void cachesOnlyProjectListsWithinTheCap() {
+		applicantRepository.deleteAll();
+		CaffeineCache byProject = (CaffeineCache) cacheManager.getCache(CachedApplicantReader.APPLICANTS_BY_PROJECT);
+		ReflectionTestUtils.setField(cachedReader, "projectListMaxRows", 2);
+		try {
+			for (int i = 0; i < 2; i++) {
+				ApplicantDTO dto = TestApplicants.valid();
+				dto.setProjectAppliedFor("AI Data Extraction");
+				applicantService.createApplicant(dto);
+			}
+			assertEquals(2, applicantService.getApplicantsByProject("AI Data Extraction").size());
+			assertEquals(2, ((CachedApplicantReader.ProjectList) byProject.get("AI Data Extraction").get()).rows().size());
+
+			ApplicantDTO third = TestApplicants.valid();
+			third.setProjectAppliedFor("AI Data Extraction");
+			applicantService.createApplicant(third);
+			// Still listed in full, but only the marker is kept
+			assertEquals(3, applicantService.getApplicantsByProject("AI Data Extraction").size());
+			assertNull(((CachedApplicantReader.ProjectList) byProject.get("AI Data Extraction").get()).rows());
+			assertEquals(3, applicantService.getApplicantsByProject("AI Data Extraction").size());
+		} finally {
+			ReflectionTestUtils.setField(cachedReader, "projectListMaxRows", 500);
+		}
+	}
+}
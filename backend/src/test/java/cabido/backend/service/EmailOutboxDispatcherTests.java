@@ -0,0 +1,107 @@
+package cabido.backend.service;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.dto.ApplicantDTO;
+import cabido.backend.entity.OutboxEmail;
+import cabido.backend.repository.ApplicantRepository;
+import cabido.backend.repository.OutboxEmailRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+		"app.email.outbox.poll-interval-ms=3600000",
+		"app.email.outbox.max-attempts=2",
+		"app.email.outbox.initial-backoff-ms=1",
+		"app.email.outbox.max-backoff-ms=1"
+})
+class EmailOutboxDispatcherTests {
+
+	@MockitoBean
+	private EmailService emailService;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private OutboxEmailRepository outboxEmailRepository;
+
+	@Autowired
+	private EmailOutboxDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		outboxEmailRepository.deleteAll();
+		applicantRepository.deleteAll();
+	}
+
+	@Test
+	void approvalIsQueuedThenDeliveredInBackground() throws Exception {
+		ApplicantDTO created = applicantService.createApplicant(TestApplicants.valid("outbox-ok@example.com"));
+
+		applicantService.approveApplicant(created.getId());
+
+		awaitTrue(() -> outboxEmailRepository.findAll().stream().allMatch(m -> m.getStatus() == OutboxEmail.Status.SENT)
+				&& outboxEmailRepository.count() == 1);
+		verify(emailService, times(1)).sendApprovalEmail("outbox-ok@example.com", TestApplicants.FULL_NAME);
+	}
+
+	@Test
+	void failingSendIsRetriedThenDeadLettered() throws Exception {
+		doThrow(new RuntimeException("SMTP down")).when(emailService).sendDeclineEmail(anyString(), anyString());
+		ApplicantDTO created = applicantService.createApplicant(TestApplicants.valid("outbox-fail@example.com"));
+
+		applicantService.declineApplicant(created.getId());
+
+		awaitTrue(() -> {
+			dispatcher.drain();
+			return outboxEmailRepository.findAll().stream().anyMatch(m -> m.getStatus() == OutboxEmail.Status.DEAD);
+		});
+		OutboxEmail dead = outboxEmailRepository.findAll().get(0);
+		assertEquals(2, dead.getAttempts());
+		assertEquals("SMTP down", dead.getLastError());
+		verify(emailService, times(2)).sendDeclineEmail("outbox-fail@example.com", TestApplicants.FULL_NAME);
+	}
+
+	@Test
+	void workerWhoseLeaseExpiredCannotRecordAnOutcome() {
+		Long id = outboxEmailRepository.save(
+				EmailOutboxService.newMessage(OutboxEmail.Template.APPROVAL, "lease@example.com", TestApplicants.FULL_NAME)).getId();
+		OutboxEmail message = outboxEmailRepository.findById(id).orElseThrow();
+		LocalDateTime first = LocalDateTime.now().plusMinutes(2).truncatedTo(ChronoUnit.SECONDS);
+		LocalDateTime second = first.plusMinutes(5);
+		assertEquals(1, outboxEmailRepository.claim(message.getId(), OutboxEmail.Status.PENDING, message.getNextAttemptAt(), first));
+		// The first lease ran out and another worker re-claimed the row
+		assertEquals(1, outboxEmailRepository.claim(message.getId(), OutboxEmail.Status.SENDING, first, second));
+
+		assertEquals(0, outboxEmailRepository.markFailed(message.getId(), first, OutboxEmail.Status.PENDING, "timeout",
+				LocalDateTime.now(), LocalDateTime.now()));
+		assertEquals(OutboxEmail.Status.SENDING, outboxEmailRepository.findById(message.getId()).orElseThrow().getStatus());
+
+		assertEquals(1, outboxEmailRepository.markSent(message.getId(), second, LocalDateTime.now()));
+		OutboxEmail sent = outboxEmailRepository.findById(message.getId()).orElseThrow();
+		assertEquals(OutboxEmail.Status.SENT, sent.getStatus());
+		assertEquals(1, sent.getAttempts());
+	}
+
+	private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.currentTimeMillis() < deadline, "condition not met within 10s");
+			Thread.sleep(50);
+		}
+	}
+}
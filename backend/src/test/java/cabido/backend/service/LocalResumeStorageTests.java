@@ -0,0 +1,136 @@
+package cabido.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalResumeStorageTests {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void storesContentUnderItsHashInShardedDirectories() throws Exception {
+		LocalResumeStorage storage = new LocalResumeStorage(root);
+		byte[] content = "%PDF-1.7 resume".getBytes(StandardCharsets.US_ASCII);
+
+		ResumeStorage.StoredResume stored = storage.store(new ByteArrayInputStream(content));
+
+		assertEquals(64, stored.key().length());
+		assertEquals(content.length, stored.size());
+		assertFalse(stored.deduplicated());
+		Path file = root.resolve(stored.key().substring(0, 2)).resolve(stored.key().substring(2, 4)).resolve(stored.key());
+		assertArrayEquals(content, Files.readAllBytes(file));
+
+		Resource loaded = storage.load(stored.key());
+		assertNotNull(loaded);
+		assertArrayEquals(content, loaded.getContentAsByteArray());
+	}
+
+	@Test
+	void identicalUploadsShareOneFile() throws Exception {
+		LocalResumeStorage storage = new LocalResumeStorage(root);
+		byte[] content = "same resume, uploaded twice".getBytes(StandardCharsets.UTF_8);
+
+		ResumeStorage.StoredResume first = storage.store(new ByteArrayInputStream(content));
+		ResumeStorage.StoredResume second = storage.store(new ByteArrayInputStream(content));
+		ResumeStorage.StoredResume other = storage.store(new ByteArrayInputStream("another".getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(first.key(), second.key());
+		assertTrue(second.deduplicated());
+		assertNotEquals(first.key(), other.key());
+		try (Stream<Path> files = Files.walk(root)) {
+			assertEquals(2, files.filter(Files::isRegularFile).count(), "one file per distinct content, no temp files left");
+		}
+	}
+
+	@Test
+	void unknownOrMalformedKeysLoadNothing() throws Exception {
+		LocalResumeStorage storage = new LocalResumeStorage(root);
+
+		assertNull(storage.load(null));
+		assertNull(storage.load("0".repeat(64)));
+		assertNull(storage.load("../../etc/passwd"));
+		assertNull(storage.load("ABCDEF".repeat(10) + "ABCD"));
+	}
+
+	@Test
+	void keepsCompressibleContentGzippedUnderTheOriginalHash() throws Exception {
+		LocalResumeStorage storage = new LocalResumeStorage(root, true, 10);
+		byte[] text = ("%PDF-1.4\n" + "BT /F1 11 Tf (Data annotation lead, Python tooling and QA) Tj ET\n".repeat(2000))
+				.getBytes(StandardCharsets.US_ASCII);
+		byte[] scanned = new byte[50_000];
+		new Random(3).nextBytes(scanned);
+
+		ResumeStorage.StoredResume packed = storage.store(new ByteArrayInputStream(text));
+		assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text)), packed.key());
+		assertEquals(text.length, packed.size());
+		assertTrue(packed.storedSize() < text.length / 4, "stored " + packed.storedSize() + " bytes");
+		assertTrue(Files.exists(storage.compressedPath(packed.key())));
+		assertFalse(Files.exists(storage.path(packed.key())));
+		assertEquals("gzip", storage.loadStored(packed.key()).encoding());
+		assertArrayEquals(text, storage.load(packed.key()).getContentAsByteArray());
+
+		// Incompressible content is not worth it and stays as uploaded
+		ResumeStorage.StoredResume plain = storage.store(new ByteArrayInputStream(scanned));
+		assertEquals(scanned.length, plain.storedSize());
+		assertNull(storage.loadStored(plain.key()).encoding());
+		try (Stream<Path> files = Files.walk(root.resolve("tmp"))) {
+			assertEquals(0, files.filter(Files::isRegularFile).count(), "no staging or compression leftovers");
+		}
+
+		// With compression switched off, compressed blobs still load and deduplicate
+		LocalResumeStorage uncompressed = new LocalResumeStorage(root);
+		ResumeStorage.StoredResume again = uncompressed.store(new ByteArrayInputStream(text));
+		assertTrue(again.deduplicated());
+		assertEquals(packed.storedSize(), again.storedSize());
+		assertArrayEquals(text, uncompressed.load(packed.key()).getContentAsByteArray());
+	}
+
+	@Test
+	void listsAndDeletesOnlyBlobsNotStoredSinceTheCutoff() throws Exception {
+		LocalResumeStorage storage = new LocalResumeStorage(root, true, 10);
+		byte[] text = "BT /F1 11 Tf (Computer vision annotation) Tj ET\n".repeat(500).getBytes(StandardCharsets.US_ASCII);
+		byte[] reused = "%PDF-1.7 uploaded again later".getBytes(StandardCharsets.US_ASCII);
+		byte[] recent = "%PDF-1.7 just uploaded".getBytes(StandardCharsets.US_ASCII);
+		String packed = storage.store(new ByteArrayInputStream(text)).key();
+		String again = storage.store(new ByteArrayInputStream(reused)).key();
+		String fresh = storage.store(new ByteArrayInputStream(recent)).key();
+		FileTime twoDaysAgo = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+		Files.setLastModifiedTime(storage.compressedPath(packed), twoDaysAgo);
+		Files.setLastModifiedTime(storage.path(again), twoDaysAgo);
+		Files.writeString(root.resolve("tmp").resolve("upload-stray.part"), "staging");
+		Files.setLastModifiedTime(root.resolve("tmp").resolve("upload-stray.part"), twoDaysAgo);
+
+		// An identical upload brings a blob back into use
+		assertTrue(storage.store(new ByteArrayInputStream(reused)).deduplicated());
+		Instant cutoff = Instant.now().minus(Duration.ofDays(1));
+		try (Stream<String> keys = storage.keysStoredBefore(cutoff)) {
+			assertEquals(List.of(packed), keys.toList());
+		}
+
+		assertFalse(storage.delete(again, cutoff));
+		assertFalse(storage.delete(fresh, cutoff));
+		assertTrue(storage.delete(packed, cutoff));
+		assertFalse(storage.delete(packed, cutoff));
+		assertNull(storage.loadStored(packed));
+		assertNotNull(storage.load(again));
+		assertNotNull(storage.load(fresh));
+		assertTrue(Files.exists(root.resolve("tmp").resolve("upload-stray.part")));
+	}
+}
@@ -0,0 +1,93 @@
+package cabido.backend.service;
+
+import cabido.backend.TestApplicants;
+import cabido.backend.dto.ApplicantDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.resume.storage.orphan-sweep-interval-ms=3600000")
+class ResumeOrphanSweeperTests {
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ResumeStorage resumeStorage;
+
+	@Autowired
+	private ResumeOrphanSweeper sweeper;
+
+	private final Random random = new Random();
+
+	@Test
+	void deletesBlobsOnceNoApplicantRecordsThem() throws Exception {
+		byte[] shared = pdf();
+		Long first = applicantService.createApplicant(TestApplicants.valid()).getId();
+		Long second = applicantService.createApplicant(TestApplicants.valid()).getId();
+		String sharedKey = upload(first, shared);
+		assertEquals(sharedKey, upload(second, shared));
+		String replacementKey = upload(first, pdf());
+		String recentOrphan = resumeStorage.store(new ByteArrayInputStream(pdf())).key();
+		age(sharedKey);
+		age(replacementKey);
+
+		// The first applicant replaced it, but the second still has it
+		sweeper.sweep();
+		assertNotNull(resumeStorage.load(sharedKey));
+
+		applicantService.deleteApplicant(second);
+		sweeper.sweep();
+		assertNull(resumeStorage.load(sharedKey));
+		assertNotNull(resumeStorage.load(replacementKey));
+		assertNotNull(applicantService.loadResume(first));
+		// Within the grace period an upload may not have reached its applicant yet
+		assertNotNull(resumeStorage.load(recentOrphan));
+	}
+
+	@Test
+	void editingAnApplicantKeepsTheirResume() throws Exception {
+		Long id = applicantService.createApplicant(TestApplicants.valid()).getId();
+		String key = upload(id, pdf());
+		age(key);
+
+		ApplicantDTO edit = TestApplicants.valid();
+		edit.setFirstName("Augusta");
+		edit.setDegree("MS Mathematics");
+		applicantService.updateApplicant(id, edit);
+		sweeper.sweep();
+
+		ApplicantService.ResumeDownload resume = applicantService.loadResume(id);
+		assertEquals(key, resume.key());
+		assertNotNull(resumeStorage.load(key));
+		assertEquals("Augusta", applicantService.getApplicantById(id).orElseThrow().getFirstName());
+	}
+
+	private String upload(Long id, byte[] content) {
+		applicantService.saveResume(id, new MockMultipartFile("resume", "cv.pdf", "application/pdf", content));
+		return applicantService.loadResume(id).key();
+	}
+
+	private void age(String key) throws Exception {
+		Files.setLastModifiedTime(((LocalResumeStorage) resumeStorage).path(key),
+				FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+	}
+
+	private byte[] pdf() {
+		byte[] bytes = new byte[4096];
+		random.nextBytes(bytes);
+		System.arraycopy("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), 0, bytes, 0, 9);
+		return bytes;
+	}
+}
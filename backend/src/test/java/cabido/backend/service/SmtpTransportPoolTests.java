@@ -0,0 +1,162 @@
+package cabido.backend.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against GreenMail as a local SMTP stand-in. The throughput comparison is
+ * opt-in because it takes a while and its numbers are only meaningful on a quiet
+ * machine:
+ *
+ *   ./mvnw test -Dtest=SmtpTransportPoolTests -Dbenchmark=true
+ */
+class SmtpTransportPoolTests {
+
+	private static final String USER = "mailer@lifewood.local";
+	private static final String PASSWORD = "secret";
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+			.withConfiguration(GreenMailConfiguration.aConfig().withUser(USER, USER, PASSWORD));
+
+	@Test
+	void reusesConnectionsAndRetiresThemAfterMessageLimit() throws Exception {
+		JavaMailSenderImpl sender = sender();
+		SmtpTransportPool pool = pool(sender, 1, 5);
+
+		for (int i = 0; i < 12; i++) {
+			pool.send(message(sender, i));
+		}
+
+		assertEquals(12, greenMail.getReceivedMessages().length);
+		assertEquals(12, pool.getMessagesSent());
+		// 5 + 5 + 2 messages: three connections in total instead of twelve
+		assertEquals(3, pool.getConnectionsOpened());
+		pool.destroy();
+	}
+
+	@Test
+	void replacesConnectionClosedByServerWhileIdle() throws Exception {
+		JavaMailSenderImpl sender = sender();
+		SmtpTransportPool pool = pool(sender, 1, 100);
+
+		pool.send(message(sender, 1));
+		// Restarting the server drops every open connection
+		greenMail.reset();
+		greenMail.setUser(USER, USER, PASSWORD);
+		pool.send(message(sender, 2));
+
+		assertEquals(1, greenMail.getReceivedMessages().length);
+		assertEquals(2, pool.getConnectionsOpened());
+		pool.destroy();
+	}
+
+	@Test
+	void retriesOnceWhenADeadConnectionSlipsPastValidation() throws Exception {
+		JavaMailSenderImpl sender = sender();
+		// Never validated on borrow, so the send itself finds the connection dead
+		SmtpTransportPool pool = pool(sender, 1, 100, 60_000);
+
+		pool.send(message(sender, 1));
+		greenMail.reset();
+		greenMail.setUser(USER, USER, PASSWORD);
+		pool.send(message(sender, 2));
+
+		assertEquals(1, greenMail.getReceivedMessages().length);
+		assertEquals(2, pool.getConnectionsOpened());
+		assertEquals(1, pool.getIdleCount());
+		pool.destroy();
+	}
+
+	@Test
+	void doesNotRetryARefusedMessageAndClosesItsConnection() throws Exception {
+		JavaMailSenderImpl sender = sender();
+		SmtpTransportPool pool = pool(sender, 1, 100);
+
+		pool.send(message(sender, 1));
+		MimeMessage noRecipients = message(sender, 2);
+		noRecipients.setRecipients(MimeMessage.RecipientType.TO, (String) null);
+		assertThrows(SendFailedException.class, () -> pool.send(noRecipients));
+
+		assertEquals(1, pool.getConnectionsOpened());
+		assertEquals(0, pool.getIdleCount());
+		pool.destroy();
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+	void benchmarkPooledVersusPerMessageConnections() throws Exception {
+		int warmup = 200;
+		int messages = 2000;
+		JavaMailSenderImpl sender = sender();
+		SmtpTransportPool pool = pool(sender, 1, 1000);
+
+		for (int i = 0; i < warmup; i++) {
+			sender.send(message(sender, i));
+			pool.send(message(sender, i));
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < messages; i++) {
+			sender.send(message(sender, i));
+		}
+		double perMessageRate = messages / ((System.nanoTime() - start) / 1e9);
+
+		start = System.nanoTime();
+		for (int i = 0; i < messages; i++) {
+			pool.send(message(sender, i));
+		}
+		double pooledRate = messages / ((System.nanoTime() - start) / 1e9);
+
+		System.out.printf("SMTP benchmark (%d messages, single thread):%n", messages);
+		System.out.printf("  JavaMailSender.send (connect per message): %8.1f msg/s%n", perMessageRate);
+		System.out.printf("  SmtpTransportPool.send (reused transport):  %8.1f msg/s%n", pooledRate);
+		System.out.printf("  speed-up: %.2fx, connections opened by pool: %d%n", pooledRate / perMessageRate, pool.getConnectionsOpened());
+		pool.destroy();
+	}
+
+	private static JavaMailSenderImpl sender() {
+		JavaMailSenderImpl sender = new JavaMailSenderImpl();
+		sender.setHost("localhost");
+		sender.setPort(ServerSetupTest.SMTP.getPort());
+		sender.setUsername(USER);
+		sender.setPassword(PASSWORD);
+		Properties props = new Properties();
+		props.put("mail.smtp.auth", "true");
+		sender.setJavaMailProperties(props);
+		return sender;
+	}
+
+	private static SmtpTransportPool pool(JavaMailSenderImpl sender, int size, int maxMessagesPerConnection) {
+		return pool(sender, size, maxMessagesPerConnection, 0);
+	}
+
+	private static SmtpTransportPool pool(JavaMailSenderImpl sender, int size, int maxMessagesPerConnection,
+										  long validateAfterIdleMillis) {
+		Session session = sender.getSession();
+		return new SmtpTransportPool(session, sender.getHost(), sender.getPort(), USER, PASSWORD,
+				size, maxMessagesPerConnection, 60_000, validateAfterIdleMillis, 5_000);
+	}
+
+	private static MimeMessage message(JavaMailSenderImpl sender, int i) throws Exception {
+		MimeMessage message = sender.createMimeMessage();
+		message.setFrom(new InternetAddress(USER));
+		message.setRecipients(MimeMessage.RecipientType.TO, "applicant" + i + "@example.com");
+		message.setSubject("Your Application Has Been Approved");
+		message.setText("Dear Applicant,\n\nCongratulations! Your application has been approved.", "UTF-8");
+		return message;
+	}
+}
@@ -0,0 +1,79 @@
+package cabido.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTests {
+
+	private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+	@Test
+	void allowsBurstThenRefillsAtConfiguredRate() {
+		TokenBucketLimiter limiter = new TokenBucketLimiter(3, 6, clock::get);
+		for (int i = 0; i < 3; i++) {
+			assertTrue(limiter.tryAcquire("ip").allowed());
+		}
+		TokenBucketLimiter.Decision denied = limiter.tryAcquire("ip");
+		assertFalse(denied.allowed());
+		// 6 per minute = one token every 10 seconds
+		assertEquals(10, denied.retryAfterSeconds());
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+		assertEquals(6, limiter.tryAcquire("ip").retryAfterSeconds());
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+		assertTrue(limiter.tryAcquire("ip").allowed());
+		assertFalse(limiter.tryAcquire("ip").allowed());
+
+		assertTrue(limiter.tryAcquire("other-ip").allowed());
+	}
+
+	@Test
+	void evictsOnlyBucketsThatHaveFullyRefilled() {
+		TokenBucketLimiter limiter = new TokenBucketLimiter(2, 60, clock::get);
+		limiter.tryAcquire("a");
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		limiter.tryAcquire("b");
+		limiter.tryAcquire("b");
+
+		// One second later "a" is full again (60/min), "b" still owes a token
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertEquals(1, limiter.evictIdle());
+		assertEquals(1, limiter.size());
+	}
+
+	@Test
+	void neverGrantsMoreThanCapacityUnderContention() throws Exception {
+		TokenBucketLimiter limiter = new TokenBucketLimiter(100, 0.0001, clock::get);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				results.add(pool.submit(() -> {
+					int granted = 0;
+					for (int i = 0; i < 1000; i++) {
+						if (limiter.tryAcquire("shared").allowed()) {
+							granted++;
+						}
+					}
+					return granted;
+				}));
+			}
+			int total = 0;
+			for (Future<Integer> f : results) {
+				total += f.get();
+			}
+			assertEquals(100, total);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
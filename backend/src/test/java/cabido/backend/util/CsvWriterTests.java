@@ -0,0 +1,34 @@
+package cabido.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvWriterTests {
+
+	@Test
+	void quotesSeparatorsAndDoublesEmbeddedQuotes() throws IOException {
+		assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\r\n",
+				write("plain", "a,b", "say \"hi\"", "two\nlines", null));
+	}
+
+	@Test
+	void neutralisesValuesASpreadsheetWouldEvaluate() throws IOException {
+		assertEquals("\"'=HYPERLINK(\"\"http://evil\"\")\",\"'+1+1\",\"'-2+3\",\"'@SUM(A1)\",\"'\tcmd\",\"'\rcmd\",\"'-\"\r\n",
+				write("=HYPERLINK(\"http://evil\")", "+1+1", "-2+3", "@SUM(A1)", "\tcmd", "\rcmd", "-"));
+	}
+
+	@Test
+	void leavesSignedNumbersAndInnerOperatorsAlone() throws IOException {
+		assertEquals("-42,+3.5,a=b,x@example.com\r\n", write("-42", "+3.5", "a=b", "x@example.com"));
+	}
+
+	private static String write(String... fields) throws IOException {
+		StringWriter out = new StringWriter();
+		new CsvWriter(out).writeRecord(fields);
+		return out.toString();
+	}
+}
@@ -2,6 +2,7 @@ import React, { useEffect, useState } from 'react';
 import { Link, useLocation } from 'react-router-dom';
 import { COLORS, TYPOGRAPHY, SPACING, BREAKPOINTS } from '../constants/colors';
 import useMediaQuery from '../hooks/useMediaQuery';
+import { adminAPI } from '../services/api';
 
 const Header = () => {
   const location = useLocation();
@@ -126,7 +127,12 @@ const Header = () => {
     return () => document.removeEventListener('keydown', onKeyDown);
   }, []);
 
-  const handleLogout = () => {
+  const handleLogout = async () => {
+    try {
+      await adminAPI.logout();
+    } catch (e) {
+      // Token already expired or revoked; clearing it locally is enough
+    }
     localStorage.removeItem('adminToken');
     window.location.href = '/';
   };
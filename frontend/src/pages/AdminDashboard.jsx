@@ -2,18 +2,27 @@ import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { COLORS, TYPOGRAPHY, SPACING, BREAKPOINTS } from '../constants/colors';
 import Container from '../components/Container';
-import { applicantAPI, API_BASE_URL } from '../services/api';
+import { applicantAPI, adminAPI, API_BASE_URL } from '../services/api';
 import { fetchResumeBlob } from '../services/api';
 import { toast, ToastContainer } from 'react-toastify';
 import 'react-toastify/dist/ReactToastify.css';
 import useMediaQuery from '../hooks/useMediaQuery';
 
+const PAGE_SIZE = 50;
+const STATS_REFRESH_DELAY_MS = 1000;
+// Wait before asking for a new event stream token after the stream was refused or dropped
+const EVENTS_RECONNECT_DELAY_MS = 3000;
+
 const AdminDashboard = () => {
   const navigate = useNavigate();
   const isMobile = useMediaQuery(`(max-width: ${BREAKPOINTS.MOBILE})`);
   const isTablet = useMediaQuery(`(max-width: ${BREAKPOINTS.TABLET})`);
   const [applicants, setApplicants] = useState([]);
+  const [serverStats, setServerStats] = useState(null);
   const [loading, setLoading] = useState(true);
+  // Keyset cursor of the next unloaded page; null once the last page is in
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [editingApplicant, setEditingApplicant] = useState(null);
   const [showAddForm, setShowAddForm] = useState(false);
   const [searchTerm, setSearchTerm] = useState('');
@@ -53,12 +62,103 @@ const AdminDashboard = () => {
     }
     
     fetchApplicants();
+    fetchStats();
   }, [navigate]);
 
-  const fetchApplicants = async () => {
+  // Live updates: apply pushed changes to the loaded rows instead of re-polling the list
+  useEffect(() => {
+    if (!localStorage.getItem('adminToken') || typeof EventSource === 'undefined') return undefined;
+    const toRow = (a, previous = {}) => ({
+      ...previous,
+      ...a,
+      relevantExperiencePreview: (a.relevantExperience || '').slice(0, 160),
+      hasResume: previous.hasResume || false,
+    });
+    // Events arriving within a second (e.g. a batch status change) share one counters refresh
+    let statsTimer;
+    const refreshStatsSoon = () => {
+      if (statsTimer) return;
+      statsTimer = setTimeout(() => {
+        statsTimer = undefined;
+        fetchStats();
+      }, STATS_REFRESH_DELAY_MS);
+    };
+    let source;
+    let reconnectTimer;
+    let lastEventId;
+    let closed = false;
+    const onChange = (handler) => (e) => {
+      lastEventId = e.lastEventId || lastEventId;
+      const { applicantId, applicant } = JSON.parse(e.data);
+      setApplicants(prev => handler(prev, applicantId, applicant));
+      refreshStatsSoon();
+    };
+    // The stream token is only checked on connect and expires within a minute, so the
+    // browser's own reconnect is refused once it has; fetch a new one and resume from the last event
+    const connect = async () => {
+      let token;
+      try {
+        token = (await adminAPI.eventsToken()).data.token;
+      } catch (error) {
+        console.error('Error opening live updates:', error);
+      }
+      if (closed) return;
+      if (!token) {
+        reconnectTimer = setTimeout(connect, EVENTS_RECONNECT_DELAY_MS);
+        return;
+      }
+      const params = new URLSearchParams({ token });
+      if (lastEventId) params.set('lastEventId', lastEventId);
+      source = new EventSource(`${API_BASE_URL}/applicants/events?${params}`);
+      source.addEventListener('created', onChange((prev, id, a) =>
+        prev.some(row => row.id === id) ? prev : [toRow(a), ...prev]));
+      source.addEventListener('updated', onChange((prev, id, a) =>
+        prev.map(row => (row.id === id ? toRow(a, row) : row))));
+      source.addEventListener('status_changed', onChange((prev, id, a) =>
+        prev.map(row => (row.id === id ? { ...row, status: a.status } : row))));
+      source.addEventListener('deleted', onChange((prev, id) =>
+        prev.filter(row => row.id !== id)));
+      // Missed more than the server keeps: reload from the first page
+      source.addEventListener('reset', (e) => {
+        lastEventId = e.lastEventId || lastEventId;
+        fetchApplicants();
+        fetchStats();
+      });
+      source.onerror = () => {
+        if (source.readyState === EventSource.CLOSED && !closed) {
+          source.close();
+          reconnectTimer = setTimeout(connect, EVENTS_RECONNECT_DELAY_MS);
+        }
+      };
+    };
+    connect();
+    return () => {
+      closed = true;
+      clearTimeout(statsTimer);
+      clearTimeout(reconnectTimer);
+      if (source) source.close();
+    };
+  }, []);
+
+  // Counts come from the server's in-memory counters rather than from the loaded rows
+  const fetchStats = async () => {
     try {
-      const response = await applicantAPI.getAll();
-      setApplicants(response.data);
+      const response = await applicantAPI.getStats();
+      setServerStats(response.data);
+    } catch (error) {
+      console.error('Error fetching stats:', error);
+    }
+  };
+
+  // Without a cursor: replace the list with the newest page. With one: append the page after it.
+  const fetchApplicants = async (cursor) => {
+    try {
+      const response = await applicantAPI.getPage({ cursor, limit: PAGE_SIZE });
+      const items = response.data.items || [];
+      setApplicants(prev => (cursor
+        ? [...prev, ...items.filter(item => !prev.some(row => row.id === item.id))]
+        : items));
+      setNextCursor(response.data.nextCursor || null);
     } catch (error) {
       console.error('Error fetching applicants:', error);
       if (error?.response?.status === 401) {
@@ -73,8 +173,26 @@ const AdminDashboard = () => {
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      await fetchApplicants(nextCursor);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   // Create/Update/Delete helpers
-  const editApplicant = (applicant) => {
+  const editApplicant = async (summary) => {
+    // List rows are summaries; load the full record (incl. experience text) for editing
+    let applicant = summary;
+    try {
+      const response = await applicantAPI.getById(summary.id);
+      applicant = response.data;
+    } catch (error) {
+      console.error('Error loading applicant details:', error);
+    }
     setEditingApplicant(applicant);
     setShowAddForm(true);
     setFormData({
@@ -95,6 +213,7 @@ const AdminDashboard = () => {
     try {
       await applicantAPI.delete(id);
       setApplicants(prev => prev.filter(a => a.id !== id));
+      fetchStats();
       toast.success('Application deleted', { position: 'top-right', autoClose: 2500 });
     } catch (error) {
       console.error('Delete failed:', error);
@@ -106,38 +225,33 @@ const AdminDashboard = () => {
 
   // -------- Utility Actions --------
   const handleLogout = () => {
+    adminAPI.logout().catch(() => {});
     localStorage.removeItem('adminToken');
     toast.success('Logged out successfully', { position: 'top-right', autoClose: 2000 });
     navigate('/admin/login');
   };
 
-  const exportCSV = () => {
-    if (!applicants || applicants.length === 0) {
-      toast.info('No applicants to export', { position: 'top-right', autoClose: 2000 });
-      return;
+  const exportCSV = async () => {
+    try {
+      const response = await adminAPI.exportApplicants({
+        format: 'csv',
+        project: filterProject,
+        status: filterStatus === 'all' ? undefined : filterStatus,
+      });
+      const disposition = response.headers['content-disposition'] || '';
+      const match = disposition.match(/filename="([^"]+)"/);
+      const url = URL.createObjectURL(response.data);
+      const link = document.createElement('a');
+      link.href = url;
+      link.setAttribute('download', match ? match[1] : 'applicants.csv');
+      document.body.appendChild(link);
+      link.click();
+      document.body.removeChild(link);
+      URL.revokeObjectURL(url);
+    } catch (err) {
+      console.error('Export failed:', err);
+      toast.error('Failed to export applicants', { position: 'top-right', autoClose: 3000 });
     }
-    const headers = ['First Name','Last Name','Email','Degree','Project','Status','Applied On'];
-    const rows = applicants.map(a => [
-      a.firstName || '',
-      a.lastName || '',
-      a.email || '',
-      a.degree || '',
-      a.projectAppliedFor || '',
-      a.status || 'pending',
-      a.createdAt ? new Date(a.createdAt).toISOString() : ''
-    ]);
-    const csv = [headers, ...rows]
-      .map(r => r.map(v => `"${String(v).replace(/"/g, '""')}"`).join(','))
-      .join('\n');
-    const blob = new Blob([csv], { type: 'text/csv;charset=utf-8;' });
-    const url = URL.createObjectURL(blob);
-    const link = document.createElement('a');
-    link.href = url;
-    link.setAttribute('download', 'applicants.csv');
-    document.body.appendChild(link);
-    link.click();
-    document.body.removeChild(link);
-    URL.revokeObjectURL(url);
   };
 
   const openResume = async (applicant) => {
@@ -435,8 +549,13 @@ const AdminDashboard = () => {
     marginTop: SPACING.SM,
   };
 
-  // Group applicants by status for the stats cards
-  const stats = {
+  // Stats cards: server counters when available, otherwise derived from the loaded rows
+  const stats = serverStats ? {
+    total: serverStats.total,
+    pending: serverStats.byStatus?.pending || 0,
+    approved: serverStats.byStatus?.approved || 0,
+    rejected: serverStats.byStatus?.rejected || 0,
+  } : {
     total: applicants.length,
     pending: applicants.filter(a => !a.status || a.status === 'pending').length,
     approved: applicants.filter(a => a.status === 'approved').length,
@@ -474,6 +593,7 @@ const AdminDashboard = () => {
       setApplicants(applicants.map(applicant => 
         applicant.id === id ? { ...applicant, status } : applicant
       ));
+      fetchStats();
       
       toast.success(`Application ${status} successfully!`, {
         position: 'top-right',
@@ -570,6 +690,7 @@ const AdminDashboard = () => {
       }
       
       fetchApplicants();
+      fetchStats();
       setEditingApplicant(null);
       setShowAddForm(false);
       resetForm();
@@ -763,7 +884,7 @@ const AdminDashboard = () => {
                   </div>
                   <div style={mobileRowStyle}>
                     <div style={mobileLabelStyle}>Experience</div>
-                    <div style={mobileValueStyle}>{applicant.relevantExperience || 'N/A'}</div>
+                    <div style={mobileValueStyle}>{applicant.relevantExperiencePreview || 'N/A'}</div>
                   </div>
                   <div style={mobileRowStyle}>
                     <div style={mobileLabelStyle}>Applied</div>
@@ -955,7 +1076,7 @@ const AdminDashboard = () => {
                       {/* Relevant Experience */}
                       <td style={tdStyle}>
                         <div
-                          title={applicant.relevantExperience || ''}
+                          title={applicant.relevantExperiencePreview || ''}
                           style={{ 
                             color: COLORS.DARK_SERPENT,
                             fontSize: '0.9rem',
@@ -964,7 +1085,7 @@ const AdminDashboard = () => {
                             wordBreak: 'break-word'
                           }}
                         >
-                          {applicant.relevantExperience || 'N/A'}
+                          {applicant.relevantExperiencePreview || 'N/A'}
                         </div>
                       </td>
                       
@@ -1099,6 +1220,24 @@ const AdminDashboard = () => {
           </div>
         )}
 
+        {!loading && nextCursor && (
+          <div style={{ textAlign: 'center', marginTop: SPACING.MD }}>
+            <button
+              style={{
+                ...buttonStyle,
+                backgroundColor: COLORS.WHITE,
+                color: COLORS.CASTLETON_GREEN,
+                border: `2px solid ${COLORS.CASTLETON_GREEN}`,
+                opacity: loadingMore ? 0.6 : 1,
+              }}
+              onClick={loadMore}
+              disabled={loadingMore}
+            >
+              {loadingMore ? 'Loading...' : 'Load more'}
+            </button>
+          </div>
+        )}
+
         {/* Resume Preview Modal */}
         {showResumeModal && (
           <div style={modalStyle} onClick={closeResume}>
@@ -175,6 +175,9 @@ const Login = () => {
       console.error('Login error:', error);
       if (error.response?.data?.message) {
         setLoginError(error.response.data.message);
+      } else if (error.response?.status === 429) {
+        const wait = error.response.headers?.['retry-after'];
+        setLoginError(`Too many login attempts. Please try again${wait ? ` in ${wait} seconds` : ' later'}.`);
       } else {
         setLoginError('Network error. Please try again.');
       }
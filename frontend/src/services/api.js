@@ -42,12 +42,16 @@ const api = axios.create({
   baseURL: API_BASE_URL,
 });
 
+// Applicant endpoints that need the admin token as well
+const ADMIN_APPLICANT_ENDPOINTS = ['applicants/stats', 'applicants/status:batch'];
+
 // Add token only for admin endpoints
 api.interceptors.request.use((config) => {
   const token = localStorage.getItem('adminToken');
   const url = (config.url || '').toString();
   const normalized = url.startsWith('/') ? url.slice(1) : url;
-  const isAdminEndpoint = normalized.startsWith('admin') || normalized.includes('admin/');
+  const isAdminEndpoint = normalized.startsWith('admin') || normalized.includes('admin/')
+    || ADMIN_APPLICANT_ENDPOINTS.includes(normalized);
   if (token && isAdminEndpoint) {
     config.headers.Authorization = `Bearer ${token}`;
   }
@@ -69,16 +73,24 @@ api.interceptors.request.use((config) => {
 
 // Applicant API
 export const applicantAPI = {
-  getAll: () => api.get('applicants'),
+  // Cursor-paginated: pass { cursor, limit, status, project }; response is { items, nextCursor, limit }
+  getPage: (params = {}) => api.get('applicants', { params }),
   getById: (id) => api.get(`applicants/${id}`),
   create: (data) => api.post('applicants', data),
   update: (id, data) => api.put(`applicants/${id}`, data),
   updateStatus: (id, status) => api.put(`applicants/${id}/status`, { status }),
   approve: (id) => api.put(`applicants/${id}/approve`),
   decline: (id) => api.put(`applicants/${id}/decline`),
+  updateStatusBatch: (ids, status) => api.post('applicants/status:batch', { ids, status }),
   delete: (id) => api.delete(`applicants/${id}`),
   getByProject: (project) => api.get(`applicants/project/${project}`),
-  searchByName: (name) => api.get(`applicants/search?name=${name}`),
+  suggest: (q, limit = 10) => api.get('applicants/suggest', { params: { q, limit } }),
+  // Ranked search; response is { query, total, page, size, items }
+  search: (q, page = 0, size = 20) => api.get('applicants/search', { params: { q, page, size } }),
+  // { total, byStatus, byProject, byProjectAndStatus, createdToday, createdLast7Days, createdLast30Days, dailyIntake }
+  getStats: () => api.get('applicants/stats'),
+  // Combined filters (project, status, degree, minAge, maxAge, createdFrom, createdTo, sort, page, size)
+  query: (params = {}) => api.get('applicants/query', { params }),
   uploadResume: (id, file) => {
     const fd = new FormData();
     fd.append('resume', file);
@@ -90,6 +102,22 @@ export const applicantAPI = {
 export const adminAPI = {
   login: (credentials) => api.post('admin/login', credentials),
   validate: () => api.get('admin/validate'),
+  // Revokes the current token server-side; callers still clear it locally
+  logout: () => api.post('admin/logout'),
+  // file: a CSV (with header row) or NDJSON File/Blob; resolves to the per-row import report
+  importApplicants: (file, format = 'csv') =>
+    api.post('admin/applicants/import', file, {
+      params: { format },
+      headers: { 'Content-Type': format === 'ndjson' ? 'application/x-ndjson' : 'text/csv' },
+    }),
+  // { token, expiresInSeconds }: EventSource cannot send headers, so the event stream takes this in its URL
+  eventsToken: () => api.post('admin/events/token'),
+  // Streamed export ({ format: 'csv' | 'ndjson', ...query filters }) as a Blob; needs the admin token
+  exportApplicants: (params = {}) =>
+    api.get('admin/applicants/export', {
+      params: Object.fromEntries(Object.entries(params).filter(([, v]) => v !== undefined && v !== null && v !== '')),
+      responseType: 'blob',
+    }),
 };
 
 // Projects API